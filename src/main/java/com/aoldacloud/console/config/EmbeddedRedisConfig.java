@@ -4,6 +4,7 @@ import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import redis.embedded.RedisServer;
@@ -14,10 +15,11 @@ import java.io.InputStreamReader;
 
 /**
  * 내장 Redis 서버를 시작하고 중지하는 설정 클래스입니다.
- * 이 클래스는 "local" 또는 "embedded-test" 프로파일에서만 활성화됩니다.
+ * 이 클래스는 "local" 또는 "embedded-test" 프로파일에서만 활성화되며, 세션을 메모리에 저장하는 경우(aoldacloud.session.store=memory)에는 시작하지 않습니다.
  */
 @Slf4j
 @Profile({"local", "embedded-test"})
+@ConditionalOnExpression("'${aoldacloud.session.store:redis}' != 'memory'")
 @Configuration
 public class EmbeddedRedisConfig {
 
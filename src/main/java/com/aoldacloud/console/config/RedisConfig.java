@@ -1,13 +1,19 @@
 package com.aoldacloud.console.config;
 
 import com.aoldacloud.console.security.entity.CloudSession;
+import com.aoldacloud.console.security.session.CloudSessionSerializer;
+import com.aoldacloud.console.security.session.ServiceCatalogStore;
 import org.openstack4j.model.identity.v3.User;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 
 @Configuration
@@ -24,10 +30,29 @@ public class RedisConfig {
   }
 
   @Bean(name = "cloudSessionRedisTemplate")
-  public RedisTemplate<String, CloudSession> cloudSessionRedisTemplate() {
+  @ConditionalOnProperty(name = "aoldacloud.session.store", havingValue = "redis", matchIfMissing = true)
+  public RedisTemplate<String, CloudSession> cloudSessionRedisTemplate(ServiceCatalogStore serviceCatalogStore) {
     RedisTemplate<String, CloudSession> redisTemplate = new RedisTemplate<>();
     redisTemplate.setConnectionFactory(redisConnectionFactory());
+    redisTemplate.setValueSerializer(new CloudSessionSerializer(serviceCatalogStore));
     return redisTemplate;
   }
 
+  @Bean(name = "inventoryRedisTemplate")
+  @ConditionalOnExpression("'${aoldacloud.session.store:redis}' != 'memory'")
+  public RedisTemplate<String, Object> inventoryRedisTemplate() {
+    RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+    redisTemplate.setConnectionFactory(redisConnectionFactory());
+    redisTemplate.setKeySerializer(RedisSerializer.string());
+    return redisTemplate;
+  }
+
+  @Bean
+  @ConditionalOnExpression("'${aoldacloud.session.store:redis}' != 'memory'")
+  public RedisMessageListenerContainer redisMessageListenerContainer() {
+    RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+    container.setConnectionFactory(redisConnectionFactory());
+    return container;
+  }
+
 }
\ No newline at end of file
@@ -6,6 +6,7 @@ import com.aoldacloud.console.domain.auth.dto.UserDetailDto;
 import com.aoldacloud.console.domain.auth.dto.UserDto;
 import com.aoldacloud.console.global.OpenstackService;
 import com.aoldacloud.console.global.ResponseWrapper;
+import com.aoldacloud.console.security.session.SessionExpiry;
 import com.aoldacloud.console.util.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -36,6 +37,7 @@ public class AuthController {
 
   private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
   private final AuthService authService;
+  private final SessionExpiry sessionExpiry;
 
   @Operation(summary = "인증 확인", description = "로그인 된 사용자인지 확인합니다.")
   @ApiResponses(value = {
@@ -71,13 +73,7 @@ public class AuthController {
     try {
       UserDto userDto = authService.loginWithCredentials(loginDto);
 
-      ResponseCookie cookie = ResponseCookie.from("X-AUTH-TOKEN", userDto.getAuthToken())
-              .path("/")
-              .sameSite("Strict")
-              .httpOnly(true)
-              .secure(false)
-              .maxAge(3 * 60 * 60)
-              .build();
+      ResponseCookie cookie = sessionExpiry.cookieOf(userDto.getAuthToken(), userDto.getSessionTtl());
 
       response.addHeader("Set-Cookie", cookie.toString());
 
@@ -88,24 +84,20 @@ public class AuthController {
     }
   }
 
-  @Operation(summary = "로그아웃", description = "사용자의 인증 토큰 쿠키를 제거하여 로그아웃합니다.")
+  @Operation(summary = "로그아웃", description = "사용자의 세션을 삭제하고 인증 토큰 쿠키를 제거하여 로그아웃합니다.")
   @ApiResponses(value = {
           @ApiResponse(responseCode = "200", description = "로그아웃 성공"),
           @ApiResponse(responseCode = "500", description = "서버 오류")
   })
   @GetMapping("/logout")
   public ResponseEntity<ResponseWrapper<String>> logout(HttpServletResponse response) {
+    // 세션 삭제에 실패하더라도 클라이언트의 인증 토큰 쿠키는 항상 제거합니다.
+    response.addHeader("Set-Cookie", sessionExpiry.expiredCookie().toString());
     try {
-      ResponseCookie cookie = ResponseCookie.from("X-AUTH-TOKEN", "")
-              .path("/")
-              .sameSite("Strict")
-              .httpOnly(true)
-              .secure(false)
-              .maxAge(0) // 쿠키 만료
-              .build();
-      response.addHeader("Set-Cookie", cookie.toString());
+      authService.logout();
       return ResponseWrapper.success("");
     } catch (RuntimeException ex) {
+      logger.error("세션 삭제 실패, 인증 토큰 쿠키만 제거합니다: {}", ex.getMessage());
       return ResponseWrapper.error("서버 오류", HttpStatus.INTERNAL_SERVER_ERROR);
     }
   }
@@ -273,7 +265,11 @@ public class AuthController {
                   content = @Content(mediaType = "application/json"))
   })
   @PutMapping("/projects/current")
-  public ResponseEntity<ResponseWrapper<ProjectInfoDto>> updateCurrentProject(@RequestParam String projectId) {
-    return ResponseWrapper.success( authService.updateCurrentProjectId(projectId));
+  public ResponseEntity<ResponseWrapper<ProjectInfoDto>> updateCurrentProject(@RequestParam String projectId, HttpServletResponse response) {
+    ProjectInfoDto projectInfo = authService.updateCurrentProjectId(projectId);
+    if (projectInfo.getAuthToken() != null) {
+      response.addHeader("Set-Cookie", sessionExpiry.cookieOf(projectInfo.getAuthToken(), projectInfo.getSessionTtl()).toString());
+    }
+    return ResponseWrapper.success(projectInfo);
   }
 }
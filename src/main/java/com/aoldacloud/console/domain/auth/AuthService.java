@@ -6,7 +6,6 @@ import com.aoldacloud.console.domain.auth.dto.UserDto;
 import com.aoldacloud.console.global.repository.KeystoneRepository;
 import com.aoldacloud.console.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
-import org.openstack4j.model.common.Identifier;
 import org.openstack4j.model.identity.v3.Domain;
 import org.openstack4j.model.identity.v3.Project;
 import org.openstack4j.model.identity.v3.Token;
@@ -37,6 +36,22 @@ public class AuthService {
     }
   }
 
+  public void logout() {
+    try {
+      String authToken = SecurityUtils.getAuthenticatedUserDetails().getAuthToken();
+      try {
+        keystoneRepository.deleteSession(authToken);
+      } finally {
+        keystoneRepository.evictUserProjects(getCurrentUser().getId());
+        keystoneRepository.evictOpenstackToken(getCurrentToken().getId());
+      }
+      logger.info("세션을 삭제했습니다.");
+    } catch (RuntimeException ex) {
+      logger.error("로그아웃 실패: {}", ex.getMessage());
+      throw ex;
+    }
+  }
+
   public Project getProjectDetails(String projectId) {
     try {
       logger.info("프로젝트 [{}] 상세 정보 요청 중", projectId);
@@ -170,20 +185,25 @@ public class AuthService {
   public ProjectInfoDto updateCurrentProjectId(String projectId) {
     try {
       logger.info("기본 프로젝트 ID [{}]로 업데이트 시도 중", projectId);
-      Token token = getCurrentToken();
-
-      Project project = keystoneRepository.getProjectById(projectId);
-      if (project == null) {
+      List<? extends Project> availableProjects = keystoneRepository.getUserProjects();
+      Project currentProject = availableProjects.stream()
+              .filter(project -> projectId.equals(project.getId()))
+              .findFirst()
+              .orElse(null);
+      if (currentProject == null) {
         logger.error("프로젝트 ID [{}]가 유효하지 않습니다.", projectId);
         throw new IllegalArgumentException("프로젝트 ID가 유효하지 않습니다.");
       }
-      keystoneRepository.getUserByCredentials(token.getCredentials().getUsername(), token.getCredentials().getPassword(), Identifier.byId(projectId));
-      logger.info("기본 프로젝트 ID [{}]로 업데이트 성공", projectId);
 
-      Project currentProject = token.getProject();
-      List<? extends Project> availableProjects = keystoneRepository.getUserProjects();
+      String currentAuthToken = SecurityUtils.getAuthenticatedUserDetails().getAuthToken();
+      UserDto userDto = keystoneRepository.switchProject(projectId);
+      logger.info("기본 프로젝트 ID [{}]로 업데이트 성공", projectId);
 
-      return ProjectInfoDto.fromProjects(currentProject, availableProjects);
+      ProjectInfoDto projectInfo = ProjectInfoDto.fromProjects(currentProject, availableProjects);
+      if (!userDto.getAuthToken().equals(currentAuthToken)) {
+        projectInfo = projectInfo.toBuilder().authToken(userDto.getAuthToken()).sessionTtl(userDto.getSessionTtl()).build();
+      }
+      return projectInfo;
     } catch (RuntimeException ex) {
       logger.error("기본 프로젝트 ID 업데이트 실패: {}", ex.getMessage());
       throw ex;
@@ -1,16 +1,19 @@
 package com.aoldacloud.console.domain.auth.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.openstack4j.model.identity.v3.Project;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @Schema(description = "현재 프로젝트와 사용 가능한 프로젝트 목록을 포함하는 DTO.")
 public class ProjectInfoDto {
 
@@ -20,6 +23,17 @@ public class ProjectInfoDto {
   @Schema(description = "현재 인증된 사용자가 접근할 수 있는 프로젝트 목록.")
   private final List<ProjectInfoDetailDto> availables;
 
+  @Schema(description = "프로젝트 변경으로 인증 토큰이 다시 발급된 경우 새 인증 토큰.")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private final String authToken;
+
+  /**
+   * 새 인증 토큰으로 저장한 세션의 TTL입니다. 인증 토큰 쿠키의 유효 시간으로 사용하며, 응답 본문에는 포함하지 않습니다.
+   */
+  @JsonIgnore
+  @Schema(hidden = true)
+  private final Duration sessionTtl;
+
   public static ProjectInfoDto fromProjects(Project currentProject, List<? extends Project> availableProjects) {
     return ProjectInfoDto.builder()
             .availables(
@@ -1,10 +1,13 @@
 package com.aoldacloud.console.domain.auth.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 import org.openstack4j.model.identity.v3.User;
 
+import java.time.Duration;
+
 @Getter
 @Builder
 @Schema(description = "사용자 인증 토큰을 포함한 DTO.")
@@ -15,4 +18,11 @@ public class UserDto {
 
   @Schema(description = "사용자의 Keystone 인증 토큰", example = "ABC123XYZ")
   private final String authToken;
+
+  /**
+   * 세션 저장소에 저장한 세션의 TTL입니다. 인증 토큰 쿠키의 유효 시간으로 사용하며, 응답 본문에는 포함하지 않습니다.
+   */
+  @JsonIgnore
+  @Schema(hidden = true)
+  private final Duration sessionTtl;
 }
\ No newline at end of file
@@ -4,8 +4,12 @@ import com.aoldacloud.console.domain.compute.dto.AbsoluteLimitDto;
 import com.aoldacloud.console.domain.compute.dto.ServerCreateDto;
 import com.aoldacloud.console.domain.compute.dto.ServerDetailsDto;
 import com.aoldacloud.console.domain.compute.dto.ServerUpdateDto;
-import com.aoldacloud.console.global.OpenstackService;
+import com.aoldacloud.console.global.CursorPage;
+import com.aoldacloud.console.global.ListFilter;
 import com.aoldacloud.console.global.ResponseWrapper;
+import com.aoldacloud.console.global.StreamingResponseWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,10 +18,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.openstack4j.model.compute.AbsoluteLimit;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Map;
@@ -30,6 +35,7 @@ import java.util.Map;
 public class ComputeController {
 
   private final ComputeService computeService;
+  private final ObjectMapper objectMapper;
 
   @Operation(summary = "리소스 쿼터 조회", description = "리소스 쿼터를 조회합니다.")
   @ApiResponses(value = {
@@ -41,9 +47,7 @@ public class ComputeController {
   @GetMapping
   public ResponseEntity<ResponseWrapper<AbsoluteLimitDto>> getLimits() {
     try {
-      var client = OpenstackService.getClient();
-      AbsoluteLimit limit = client.compute().quotaSets().limits().getAbsolute();
-      return ResponseWrapper.success(AbsoluteLimitDto.fromAbsoluteLimit(limit));
+      return ResponseWrapper.success(computeService.getLimits());
     } catch (Exception e) {
       return ResponseWrapper.error("리소스 쿼터 조회 실패", HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -87,7 +91,7 @@ public class ComputeController {
     return ResponseEntity.noContent().build();
   }
 
-  @Operation(summary = "가상머신 목록 조회", description = "가상머신 목록을 조회합니다.")
+  @Operation(summary = "가상머신 목록 조회", description = "가상머신 목록을 조회합니다. view로 응답 범위를 지정할 수 있습니다. (summary: ID/이름/상태/IP, standard: 플레이버/소유자 추가, full: 볼륨/이미지 추가) limit을 지정하면 페이지 단위로 조회하며, 응답의 nextMarker를 marker로 전달하여 다음 페이지를 조회합니다. stream=true를 지정하면 전체 목록을 묶음 단위로 변환하면서 스트리밍으로 응답합니다.")
   @ApiResponses(value = {
           @ApiResponse(responseCode = "200", description = "가상머신 목록 조회 성공",
                   content = @Content(mediaType = "application/json", schema = @Schema(implementation = ServerDetailsDto.class))),
@@ -95,9 +99,27 @@ public class ComputeController {
                   content = @Content(mediaType = "application/json"))
   })
   @GetMapping("/servers")
-  public ResponseEntity<ResponseWrapper<List<ServerDetailsDto>>> listServers() {
-    List<ServerDetailsDto> servers = computeService.listServers();
-    return ResponseWrapper.success(servers);
+  public ResponseEntity<ResponseWrapper<List<ServerDetailsDto>>> listServers(@RequestParam(defaultValue = "full") String view,
+                                                                             @RequestParam(required = false) Integer limit,
+                                                                             @RequestParam(required = false) String marker,
+                                                                             @ParameterObject ListFilter filter) {
+    filter.validate();
+    if (limit == null) {
+      return ResponseWrapper.success(computeService.listServers(ServerView.from(view), filter));
+    }
+    if (limit < 1) {
+      throw new IllegalArgumentException("limit은 1 이상이어야 합니다.");
+    }
+    CursorPage<ServerDetailsDto> page = computeService.listServers(ServerView.from(view), filter, limit, marker);
+    return ResponseWrapper.success(page.items(), page.nextMarker());
+  }
+
+  @Hidden
+  @GetMapping(value = "/servers", params = "stream=true")
+  public ResponseEntity<StreamingResponseBody> streamServers(@RequestParam(defaultValue = "full") String view,
+                                                             @ParameterObject ListFilter filter) {
+    filter.validate();
+    return StreamingResponseWrapper.success(objectMapper, computeService.streamServers(ServerView.from(view), filter));
   }
 
   @Operation(summary = "가상머신 상세 정보 조회", description = "특정 가상머신의 상세 정보를 조회합니다.")
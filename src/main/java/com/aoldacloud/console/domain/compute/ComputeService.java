@@ -1,8 +1,14 @@
 package com.aoldacloud.console.domain.compute;
 
+import com.aoldacloud.console.domain.compute.dto.AbsoluteLimitDto;
 import com.aoldacloud.console.domain.compute.dto.ServerCreateDto;
 import com.aoldacloud.console.domain.compute.dto.ServerDetailsDto;
 import com.aoldacloud.console.domain.compute.dto.ServerUpdateDto;
+import com.aoldacloud.console.global.CursorPage;
+import com.aoldacloud.console.global.ListFilter;
+import com.aoldacloud.console.global.OpenstackContext;
+import com.aoldacloud.console.global.cache.InventoryCache;
+import com.aoldacloud.console.global.cache.InventoryResource;
 import com.aoldacloud.console.global.repository.NovaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,7 +17,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -19,13 +25,25 @@ import java.util.stream.Collectors;
 public class ComputeService {
 
   private final NovaRepository novaRepository;
+  private final ServerDetailsMapper serverDetailsMapper;
+  private final InventoryCache inventoryCache;
+
+  public AbsoluteLimitDto getLimits() {
+    try {
+      return AbsoluteLimitDto.fromAbsoluteLimit(novaRepository.getLimits());
+    } catch (RuntimeException ex) {
+      log.error("리소스 쿼터 조회 실패: {}", ex.getMessage());
+      throw new RuntimeException("리소스 쿼터 조회 중 오류가 발생했습니다.", ex);
+    }
+  }
 
   public ServerDetailsDto createServer(ServerCreateDto serverCreateDto) {
     try {
       log.info("가상머신 생성 요청: {}", serverCreateDto.getName());
       Server createdServer = novaRepository.createServer(serverCreateDto);
+      inventoryCache.invalidate(InventoryResource.SERVERS, InventoryResource.PORTS);
       log.info("가상머신 생성 성공: {}", createdServer.getId());
-      return ServerDetailsDto.fromServer(createdServer);
+      return serverDetailsMapper.map(createdServer, OpenstackContext.current());
     } catch (RuntimeException ex) {
       log.error("가상머신 생성 실패: {}", ex.getMessage());
       throw new RuntimeException("가상머신 생성 중 오류가 발생했습니다.", ex);
@@ -36,8 +54,9 @@ public class ComputeService {
     try {
       log.info("가상머신 업데이트 요청: {}", serverUpdateDto.getServerId());
       Server updatedServer = novaRepository.updateServer(serverUpdateDto);
+      inventoryCache.invalidate(InventoryResource.SERVERS);
       log.info("가상머신 업데이트 성공: {}", updatedServer.getId());
-      return ServerDetailsDto.fromServer(updatedServer);
+      return serverDetailsMapper.map(updatedServer, OpenstackContext.current());
     } catch (RuntimeException ex) {
       log.error("가상머신 업데이트 실패: {}", ex.getMessage());
       throw new RuntimeException("가상머신 업데이트 중 오류가 발생했습니다.", ex);
@@ -48,6 +67,7 @@ public class ComputeService {
     try {
       log.info("가상머신 삭제 요청: {}", serverId);
       novaRepository.deleteServer(serverId);
+      inventoryCache.invalidate(InventoryResource.SERVERS, InventoryResource.PORTS, InventoryResource.FLOATING_IPS);
       log.info("가상머신 삭제 성공: {}", serverId);
     } catch (RuntimeException ex) {
       log.error("가상머신 삭제 실패: {}", ex.getMessage());
@@ -55,12 +75,41 @@ public class ComputeService {
     }
   }
 
-  public List<ServerDetailsDto> listServers() {
+  public List<ServerDetailsDto> listServers(ServerView view, ListFilter filter) {
+    try {
+      log.info("가상머신 목록 요청: view={}, filter={}", view, filter);
+      List<? extends Server> servers = novaRepository.listServers(filter);
+      return serverDetailsMapper.mapAll(servers, OpenstackContext.current(), view);
+    } catch (RuntimeException ex) {
+      log.error("가상머신 목록 조회 실패: {}", ex.getMessage());
+      throw new RuntimeException("가상머신 목록 조회 중 오류가 발생했습니다.", ex);
+    }
+  }
+
+  /**
+   * 가상머신 목록을 조회하고, 응답을 기록하면서 묶음 단위로 변환하는 지연 스트림을 반환합니다.
+   * 업스트림 조회와 컨텍스트 생성은 요청 스레드에서 미리 실행합니다.
+   */
+  public Stream<ServerDetailsDto> streamServers(ServerView view, ListFilter filter) {
+    try {
+      log.info("가상머신 목록 스트리밍 요청: view={}, filter={}", view, filter);
+      OpenstackContext context = OpenstackContext.current();
+      List<? extends Server> servers = novaRepository.listServers(filter);
+      return serverDetailsMapper.stream(servers, context, view);
+    } catch (RuntimeException ex) {
+      log.error("가상머신 목록 조회 실패: {}", ex.getMessage());
+      throw new RuntimeException("가상머신 목록 조회 중 오류가 발생했습니다.", ex);
+    }
+  }
+
+  /**
+   * 가상머신 목록의 한 페이지를 조회합니다. 상세 정보 조회는 현재 페이지의 가상머신에 대해서만 실행됩니다.
+   */
+  public CursorPage<ServerDetailsDto> listServers(ServerView view, ListFilter filter, int limit, String marker) {
     try {
-      log.info("가상머신 목록 요청");
-      return novaRepository.listServers().stream()
-              .map(ServerDetailsDto::fromServer)
-              .collect(Collectors.toList());
+      log.info("가상머신 목록 요청: view={}, filter={}, limit={}, marker={}", view, filter, limit, marker);
+      CursorPage<Server> page = novaRepository.listServers(filter, limit, marker);
+      return page.map(servers -> serverDetailsMapper.mapAll(servers, OpenstackContext.current(), view));
     } catch (RuntimeException ex) {
       log.error("가상머신 목록 조회 실패: {}", ex.getMessage());
       throw new RuntimeException("가상머신 목록 조회 중 오류가 발생했습니다.", ex);
@@ -74,7 +123,7 @@ public class ComputeService {
       if (server == null) {
         return null;
       }
-      return ServerDetailsDto.fromServer(server);
+      return serverDetailsMapper.map(server, OpenstackContext.current());
     } catch (RuntimeException ex) {
       log.error("가상머신 상세 정보 조회 실패: {}", ex.getMessage());
       throw new RuntimeException("가상머신 상세 정보 조회 중 오류가 발생했습니다.", ex);
@@ -85,6 +134,7 @@ public class ComputeService {
     try {
       log.info("서버 액션 요청: serverId={}, action={}", serverId, action);
       novaRepository.performServerAction(serverId, action);
+      inventoryCache.invalidate(InventoryResource.SERVERS);
       log.info("서버 액션 성공: serverId={}, action={}", serverId, action);
     } catch (RuntimeException ex) {
       log.error("서버 액션 실패: {}", ex.getMessage());
@@ -116,6 +166,7 @@ public class ComputeService {
     try {
       log.info("서버 메타데이터 업데이트 요청: serverId={}", serverId);
       novaRepository.updateServerMetadata(serverId, metadata);
+      inventoryCache.invalidate(InventoryResource.SERVERS);
       log.info("서버 메타데이터 업데이트 성공: serverId={}", serverId);
     } catch (RuntimeException ex) {
       log.error("서버 메타데이터 업데이트 실패: {}", ex.getMessage());
@@ -127,6 +178,7 @@ public class ComputeService {
     try {
       log.info("서버 메타데이터 항목 삭제 요청: serverId={}, key={}", serverId, key);
       novaRepository.deleteServerMetadataItem(serverId, key);
+      inventoryCache.invalidate(InventoryResource.SERVERS);
       log.info("서버 메타데이터 항목 삭제 성공: serverId={}, key={}", serverId, key);
     } catch (RuntimeException ex) {
       log.error("서버 메타데이터 항목 삭제 실패: {}", ex.getMessage());
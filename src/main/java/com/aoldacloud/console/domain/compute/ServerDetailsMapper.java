@@ -0,0 +1,289 @@
+package com.aoldacloud.console.domain.compute;
+
+import com.aoldacloud.console.domain.compute.dto.PartialServerDetailsDto;
+import com.aoldacloud.console.domain.compute.dto.ServerDetailsDto;
+import com.aoldacloud.console.global.OpenstackContext;
+import com.aoldacloud.console.global.ParallelTasks;
+import com.aoldacloud.console.global.cache.ImageCache;
+import com.aoldacloud.console.global.cache.UserCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.api.OSClient.OSClientV3;
+import org.openstack4j.model.compute.Flavor;
+import org.openstack4j.model.compute.Server;
+import org.openstack4j.model.identity.v3.User;
+import org.openstack4j.model.image.v2.Image;
+import org.openstack4j.model.storage.block.Volume;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 가상머신 목록을 ServerDetailsDto로 변환하는 클래스입니다.
+ * 페이지 전체의 볼륨, 이미지, 사용자 ID를 모아 중복을 제거한 뒤 리소스 종류별로 한 번씩 조회하고,
+ * 조회 결과를 메모리에서 조합하여 서버 수에 비례하는 API 호출(N+1)을 방지합니다.
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class ServerDetailsMapper {
+
+  /**
+   * 조회할 ID가 이 개수 이하이면 목록 조회 대신 개별 조회를 사용합니다.
+   */
+  private static final int SINGLE_LOOKUP_THRESHOLD = 1;
+
+  private final ImageCache imageCache;
+  private final UserCache userCache;
+
+  @Value("${aoldacloud.compute.enrichment.max-concurrency:16}")
+  private int maxConcurrency;
+
+  @Value("${aoldacloud.compute.enrichment.timeout:5s}")
+  private Duration timeout;
+
+  @Value("${aoldacloud.compute.enrichment.stream-chunk-size:50}")
+  private int streamChunkSize;
+
+  public ServerDetailsDto map(Server server, OpenstackContext context) {
+    return mapAll(List.of(server), context, ServerView.FULL).getFirst();
+  }
+
+  /**
+   * view에 포함되는 정보만 조회하여 변환합니다. SUMMARY는 추가 API 호출 없이 Nova 응답만으로 변환합니다.
+   * 플레이버, 볼륨과 이미지 조회(이미지는 볼륨 조회 결과에 의존), 사용자별 조회는 가상 스레드에서 동시에 실행합니다.
+   * 전체 소요 시간은 호출 합계가 아닌 가장 느린 호출 경로를 따르며, 제한 시간을 넘기거나 실패한 조회는 빈 결과로 대체됩니다.
+   */
+  public List<ServerDetailsDto> mapAll(List<? extends Server> servers, OpenstackContext context, ServerView view) {
+    if (!view.includes(ServerView.STANDARD)) {
+      return servers.stream()
+              .map(server -> (ServerDetailsDto) PartialServerDetailsDto.of(ServerDetailsDto.fromServer(server, null, null, null, null)))
+              .collect(Collectors.toList());
+    }
+
+    Set<String> flavorIds = servers.stream()
+            .map(Server::getFlavorId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+    Set<String> userIds = servers.stream()
+            .map(Server::getUserId)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+    Set<String> volumeIds = !view.includes(ServerView.FULL) ? Set.of() : servers.stream()
+            .map(Server::getOsExtendedVolumesAttached)
+            .filter(Objects::nonNull)
+            .flatMap(List::stream)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+
+    Map<String, Flavor> flavors;
+    Map<String, Volume> volumes;
+    Map<String, Image> images;
+    Map<String, User> users = new HashMap<>();
+
+    try (ParallelTasks tasks = ParallelTasks.open(maxConcurrency, timeout)) {
+      Map<String, Future<User>> userFutures = new LinkedHashMap<>();
+      for (String userId : userIds) {
+        userFutures.put(userId, tasks.fork(() -> fetchUser(userId, context)));
+      }
+
+      Future<Map<String, Flavor>> flavorFuture = tasks.fork(() -> fetchFlavors(flavorIds, context.getClient()));
+      Future<Map<String, Volume>> volumeFuture = tasks.fork(() -> fetchVolumes(volumeIds, context.getClient()));
+      volumes = tasks.join(volumeFuture, Map.of(), "볼륨 목록 조회");
+
+      Set<String> imageRefs = volumes.values().stream()
+              .map(Volume::getImageRef)
+              .filter(Objects::nonNull)
+              .collect(Collectors.toCollection(LinkedHashSet::new));
+      if (imageRefs.isEmpty()) {
+        images = Map.of();
+      } else {
+        String projectId = context.getToken().getProject().getId();
+        Future<Map<String, Image>> imageFuture = tasks.fork(() ->
+                imageCache.getAll(imageRefs, projectId, missing -> fetchImages(missing, context.getClient())));
+        images = tasks.join(imageFuture, Map.of(), "이미지 목록 조회");
+      }
+
+      flavors = tasks.join(flavorFuture, Map.of(), "플레이버 목록 조회");
+      userFutures.forEach((userId, future) -> {
+        User user = tasks.join(future, null, "사용자 조회 [" + userId + "]");
+        if (user != null) {
+          users.put(userId, user);
+        }
+      });
+    }
+
+    log.debug("가상머신 {}개 변환({}): 플레이버 {}개, 볼륨 {}개, 이미지 {}개, 사용자 {}개 조회",
+            servers.size(), view, flavors.size(), volumes.size(), images.size(), users.size());
+
+    boolean full = view.includes(ServerView.FULL);
+    return servers.stream()
+            .map(server -> assemble(server, flavors, volumes, images, users, full))
+            .collect(Collectors.toList());
+  }
+
+  /**
+   * 가상머신 목록을 일정 개수씩 나누어 변환하는 지연 스트림을 반환합니다.
+   * 스트림을 소비하는 시점에 묶음 단위로 상세 정보를 조회하므로, 한 번에 메모리에 올라가는 DTO는 한 묶음뿐입니다.
+   */
+  public Stream<ServerDetailsDto> stream(List<? extends Server> servers, OpenstackContext context, ServerView view) {
+    int chunks = (servers.size() + streamChunkSize - 1) / streamChunkSize;
+    return IntStream.range(0, chunks)
+            .mapToObj(i -> servers.subList(i * streamChunkSize, Math.min((i + 1) * streamChunkSize, servers.size())))
+            .flatMap(chunk -> mapAll(chunk, context, view).stream());
+  }
+
+  private ServerDetailsDto assemble(Server server, Map<String, Flavor> flavors, Map<String, Volume> volumes,
+                                    Map<String, Image> images, Map<String, User> users, boolean full) {
+    Flavor flavor = flavors.get(server.getFlavorId());
+    User user = users.get(server.getUserId());
+    if (!full) {
+      return PartialServerDetailsDto.of(ServerDetailsDto.fromServer(server, flavor, null, null, user));
+    }
+
+    List<Volume> attachedVolumes = server.getOsExtendedVolumesAttached() == null ? List.of()
+            : server.getOsExtendedVolumesAttached().stream()
+            .map(volumes::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+
+    Image image = attachedVolumes.stream()
+            .map(Volume::getImageRef)
+            .filter(Objects::nonNull)
+            .map(images::get)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+
+    return ServerDetailsDto.fromServer(server, flavor, attachedVolumes, image, user);
+  }
+
+  /**
+   * 플레이버 목록 API는 삭제되었거나 접근할 수 없는 비공개 플레이버를 반환하지 않으므로,
+   * 목록에서 찾지 못한 ID와 목록 조회에 실패한 경우에는 ID별로 다시 조회합니다.
+   */
+  private Map<String, Flavor> fetchFlavors(Set<String> flavorIds, OSClientV3 client) {
+    Map<String, Flavor> flavors = new HashMap<>();
+    if (flavorIds.isEmpty()) {
+      return flavors;
+    }
+
+    if (flavorIds.size() > SINGLE_LOOKUP_THRESHOLD) {
+      try {
+        for (Flavor flavor : client.compute().flavors().list()) {
+          if (flavorIds.contains(flavor.getId())) {
+            flavors.put(flavor.getId(), flavor);
+          }
+        }
+      } catch (Exception e) {
+        log.error("Failed to list flavors for flavorIds: {} {}", flavorIds, e.toString());
+      }
+    }
+
+    for (String flavorId : flavorIds) {
+      if (flavors.containsKey(flavorId)) {
+        continue;
+      }
+      try {
+        Flavor flavor = client.compute().flavors().get(flavorId);
+        if (flavor != null) {
+          flavors.put(flavorId, flavor);
+        }
+      } catch (Exception e) {
+        log.error("Failed to get flavor for flavorId: {} {}", flavorId, e.toString());
+      }
+    }
+    return flavors;
+  }
+
+  private Map<String, Volume> fetchVolumes(Set<String> volumeIds, OSClientV3 client) {
+    Map<String, Volume> volumes = new HashMap<>();
+    if (volumeIds.isEmpty()) {
+      return volumes;
+    }
+
+    if (volumeIds.size() <= SINGLE_LOOKUP_THRESHOLD) {
+      for (String volumeId : volumeIds) {
+        try {
+          Volume volume = client.blockStorage().volumes().get(volumeId);
+          if (volume != null) {
+            volumes.put(volumeId, volume);
+          }
+        } catch (Exception e) {
+          log.error("Failed to get volume for attachedVolume: {} {}", volumeId, e.toString());
+        }
+      }
+      return volumes;
+    }
+
+    try {
+      for (Volume volume : client.blockStorage().volumes().list()) {
+        if (volumeIds.contains(volume.getId())) {
+          volumes.put(volume.getId(), volume);
+        }
+      }
+    } catch (Exception e) {
+      log.error("Failed to list volumes for attachedVolumes: {} {}", volumeIds, e.toString());
+    }
+    return volumes;
+  }
+
+  private Map<String, Image> fetchImages(Set<String> imageRefs, OSClientV3 client) {
+    Map<String, Image> images = new HashMap<>();
+    if (imageRefs.isEmpty()) {
+      return images;
+    }
+
+    if (imageRefs.size() <= SINGLE_LOOKUP_THRESHOLD) {
+      for (String imageRef : imageRefs) {
+        try {
+          Image image = client.imagesV2().get(imageRef);
+          if (image != null) {
+            images.put(imageRef, image);
+          }
+        } catch (Exception e) {
+          log.error("Failed to get image for imageRef: {}", imageRef);
+        }
+      }
+      return images;
+    }
+
+    try {
+      Map<String, String> filter = Map.of(
+              "id", "in:" + String.join(",", imageRefs),
+              "limit", String.valueOf(imageRefs.size()));
+      for (Image image : client.imagesV2().list(filter)) {
+        images.put(image.getId(), image);
+      }
+    } catch (Exception e) {
+      log.error("Failed to list images for imageRefs: {}", imageRefs);
+    }
+    return images;
+  }
+
+  /**
+   * Keystone은 ID 목록으로 사용자를 필터링하는 API를 제공하지 않으므로, 중복을 제거한 사용자 ID별로 한 번씩 조회합니다.
+   * 조회 결과는 ID와 이름만 UserCache에 캐싱되어, 같은 프로젝트에서 같은 역할을 가진 요청과 공유됩니다.
+   */
+  private User fetchUser(String userId, OpenstackContext context) {
+    try {
+      return userCache.getSummary(context, userId, id -> context.getClient().identity().users().get(id));
+    } catch (Exception e) {
+      log.error("Failed to get user for userId: {}", userId, e);
+      return null;
+    }
+  }
+}
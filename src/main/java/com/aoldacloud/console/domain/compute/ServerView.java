@@ -0,0 +1,43 @@
+package com.aoldacloud.console.domain.compute;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * 가상머신 목록 응답에 포함할 정보의 범위입니다.
+ * 범위가 좁을수록 추가 조회가 줄어들고 응답 크기가 작아집니다.
+ */
+public enum ServerView {
+
+  /**
+   * ID, 이름, 상태, IP, 보안 그룹만 포함합니다. Nova 목록 조회 한 번으로 응답합니다.
+   */
+  SUMMARY,
+
+  /**
+   * SUMMARY에 플레이버와 소유자 정보를 추가합니다. 볼륨과 이미지는 조회하지 않습니다.
+   */
+  STANDARD,
+
+  /**
+   * 볼륨과 이미지까지 모두 포함합니다.
+   */
+  FULL;
+
+  public boolean includes(ServerView view) {
+    return compareTo(view) >= 0;
+  }
+
+  /**
+   * 쿼리 파라미터 값을 ServerView로 변환합니다. 대소문자를 구분하지 않습니다.
+   *
+   * @param value 쿼리 파라미터 값
+   * @return ServerView
+   */
+  public static ServerView from(String value) {
+    return Arrays.stream(values())
+            .filter(view -> view.name().equals(value.trim().toUpperCase(Locale.ROOT)))
+            .findFirst()
+            .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 view 값입니다: " + value));
+  }
+}
@@ -0,0 +1,24 @@
+package com.aoldacloud.console.domain.compute.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * SUMMARY, STANDARD 뷰의 가상머신 응답입니다. 뷰에서 조회하지 않아 null인 필드는 응답에서 제외합니다.
+ * FULL 뷰와 단건 조회는 ServerDetailsDto를 그대로 사용하므로 null 필드도 응답에 포함됩니다.
+ */
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PartialServerDetailsDto extends ServerDetailsDto {
+
+  private PartialServerDetailsDto(ServerDetailsDto dto) {
+    super(dto.getId(), dto.getName(), dto.getFixedIp(), dto.getFloatingIp(), dto.getStatus(), dto.getProgress(),
+            dto.getSecurityGroup(), dto.getUser(), dto.getFlavor(), dto.getImage(), dto.getVolumes());
+  }
+
+  public static PartialServerDetailsDto of(ServerDetailsDto dto) {
+    return new PartialServerDetailsDto(dto);
+  }
+}
@@ -1,12 +1,10 @@
 package com.aoldacloud.console.domain.compute.dto;
 
-import com.aoldacloud.console.global.OpenstackService;
 import com.aoldacloud.console.util.SecurityUtils;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import org.openstack4j.api.OSClient;
 import org.openstack4j.api.types.ServiceType;
 import org.openstack4j.model.common.Identifier;
 import org.openstack4j.model.compute.Flavor;
@@ -21,11 +19,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.parameters.P;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Data
 @Builder
@@ -47,15 +41,22 @@ public class ServerDetailsDto {
   private Image image;
   private List<Volume> volumes;
 
-  public static ServerDetailsDto fromServer(Server server) {
+  /**
+   * 조회가 끝난 플레이버, 볼륨, 이미지, 사용자 정보를 이용하여 추가 API 호출 없이 ServerDetailsDto를 생성합니다.
+   * 조회하지 않은 정보는 null로 전달합니다. 가벼운 뷰에서 null 필드를 제외하려면 PartialServerDetailsDto로 감쌉니다.
+   *
+   * @param server 가상머신
+   * @param flavor 가상머신의 플레이버 (없으면 null)
+   * @param volumes 가상머신에 연결된 볼륨 목록 (조회하지 않았으면 null)
+   * @param image 볼륨의 이미지 (없으면 null)
+   * @param user 가상머신 소유자 (없으면 null)
+   * @return ServerDetailsDto
+   */
+  public static ServerDetailsDto fromServer(Server server, Flavor flavor, List<Volume> volumes, Image image, User user) {
     logger.debug("Entering fromServer method with server: {}", server);
 
     String fixedIp = null;
     String floatingIp = null;
-    List<Volume> volumes = new ArrayList<>();
-    Image image = null;
-
-    var client = OpenstackService.getClient();
 
     try {
       if (server.getAddresses() != null) {
@@ -74,55 +75,9 @@ public class ServerDetailsDto {
 
       logger.debug("Processed IP addresses - fixedIp: {}, floatingIp: {}", fixedIp, floatingIp);
 
-      // 볼륨 및 이미지 정보 처리
-      if (server.getOsExtendedVolumesAttached() != null) {
-        volumes = server.getOsExtendedVolumesAttached().stream()
-                .map(attachedVolume -> {
-                  try {
-                    return client.blockStorage().volumes().get(attachedVolume);
-                  } catch (Exception e) {
-                    logger.error("Failed to get volume for attachedVolume: {} {}", attachedVolume, e.toString());
-                    return null;
-                  }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
-
-        Optional<Image> firstImage = volumes.stream()
-                .map(Volume::getImageRef)
-                .filter(Objects::nonNull)
-                .map(imageRef -> {
-                  try {
-                    return client.imagesV2().get(imageRef);
-                  } catch (Exception e) {
-                    logger.error("Failed to get image for imageRef: {}", imageRef);
-                    return null;
-                  }
-                })
-                .filter(Objects::nonNull)
-                .findFirst();
-
-        if (firstImage.isPresent()) {
-          image = firstImage.get();
-        }
-      }
-
-      logger.debug("Processed volumes and image - volumes: {}, image: {}", volumes, image);
-
       SecurityGroup securityGroup = server.getSecurityGroups() != null && !server.getSecurityGroups().isEmpty()
               ? server.getSecurityGroups().getFirst() : null;
 
-      Flavor flavor = server.getFlavor();
-      User user = null;
-      try {
-        user = client.identity().users().get(server.getUserId());
-      } catch (Exception e) {
-        logger.error("Failed to get user for userId: {}", server.getUserId(), e);
-      }
-
-      logger.debug("Processed securityGroup, flavor, and user - securityGroup: {}, flavor: {}, user: {}",
-              securityGroup, flavor, user);
-
       ServerDetailsDto dto = ServerDetailsDto.builder()
               .id(server.getId())
               .name(server.getName())
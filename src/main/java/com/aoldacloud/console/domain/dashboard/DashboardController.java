@@ -0,0 +1,40 @@
+package com.aoldacloud.console.domain.dashboard;
+
+import com.aoldacloud.console.domain.compute.ServerView;
+import com.aoldacloud.console.domain.dashboard.dto.DashboardDto;
+import com.aoldacloud.console.global.ResponseWrapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1.0/dashboard")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Dashboard", description = "AoldaCloud 대시보드와 관련된 API")
+public class DashboardController {
+
+  private final DashboardService dashboardService;
+
+  @Operation(summary = "대시보드 조회", description = "사용자, 현재 프로젝트, 리소스 쿼터, 가상머신, 플로팅 IP, 라우터 정보를 한 번에 조회합니다. 조회에 실패한 항목은 null이며 failedSections에 포함됩니다.")
+  @ApiResponses(value = {
+          @ApiResponse(responseCode = "200", description = "대시보드 조회 성공 (일부 항목은 비어 있을 수 있음)",
+                  content = @Content(mediaType = "application/json", schema = @Schema(implementation = DashboardDto.class))),
+          @ApiResponse(responseCode = "401", description = "자격 증명 오류",
+                  content = @Content(mediaType = "application/json"))
+  })
+  @GetMapping
+  public ResponseEntity<ResponseWrapper<DashboardDto>> getDashboard(@RequestParam(defaultValue = "full") String view) {
+    return ResponseWrapper.success(dashboardService.getDashboard(ServerView.from(view)));
+  }
+}
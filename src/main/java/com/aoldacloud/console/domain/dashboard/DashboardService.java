@@ -0,0 +1,109 @@
+package com.aoldacloud.console.domain.dashboard;
+
+import com.aoldacloud.console.domain.auth.AuthService;
+import com.aoldacloud.console.domain.auth.dto.ProjectInfoDto;
+import com.aoldacloud.console.domain.auth.dto.UserDetailDto;
+import com.aoldacloud.console.domain.compute.ComputeService;
+import com.aoldacloud.console.domain.compute.ServerView;
+import com.aoldacloud.console.domain.compute.dto.AbsoluteLimitDto;
+import com.aoldacloud.console.domain.compute.dto.ServerDetailsDto;
+import com.aoldacloud.console.domain.dashboard.dto.DashboardDto;
+import com.aoldacloud.console.domain.network.NetworkService;
+import com.aoldacloud.console.domain.network.dto.FloatingIpDetailsDto;
+import com.aoldacloud.console.domain.network.dto.RouterDetailsDto;
+import com.aoldacloud.console.global.ListFilter;
+import com.aoldacloud.console.global.OpenstackContext;
+import com.aoldacloud.console.global.ParallelTasks;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.concurrent.DelegatingSecurityContextCallable;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+/**
+ * 대시보드 화면에 필요한 정보를 가상 스레드에서 동시에 조회하여 하나의 응답으로 합칩니다.
+ * 항목마다 조회를 시작한 시점부터 별도의 제한 시간을 적용하며, 실패하거나 제한 시간을 넘긴 항목만 비워 두고 나머지는 그대로 반환합니다.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DashboardService {
+
+  private final AuthService authService;
+  private final ComputeService computeService;
+  private final NetworkService networkService;
+
+  @Value("${aoldacloud.dashboard.max-concurrency:8}")
+  private int maxConcurrency;
+
+  @Value("${aoldacloud.dashboard.deadline:10s}")
+  private Duration deadline;
+
+  @Value("${aoldacloud.dashboard.section-timeout.project:3s}")
+  private Duration projectTimeout;
+
+  @Value("${aoldacloud.dashboard.section-timeout.limits:3s}")
+  private Duration limitsTimeout;
+
+  @Value("${aoldacloud.dashboard.section-timeout.servers:8s}")
+  private Duration serversTimeout;
+
+  @Value("${aoldacloud.dashboard.section-timeout.floating-ips:5s}")
+  private Duration floatingIpsTimeout;
+
+  @Value("${aoldacloud.dashboard.section-timeout.routers:5s}")
+  private Duration routersTimeout;
+
+  public DashboardDto getDashboard(ServerView view) {
+    log.info("대시보드 요청: view={}", view);
+    OpenstackContext context = OpenstackContext.current();
+    Instant started = Instant.now();
+
+    try (ParallelTasks tasks = ParallelTasks.open(maxConcurrency, deadline)) {
+      Future<ProjectInfoDto> project = fork(tasks, context, authService::getCurrentProjectAndAvailableProjects);
+      Future<AbsoluteLimitDto> limits = fork(tasks, context, computeService::getLimits);
+      Future<List<ServerDetailsDto>> servers = fork(tasks, context, () -> computeService.listServers(view, new ListFilter()));
+      Future<List<FloatingIpDetailsDto>> floatingIps = fork(tasks, context, () -> networkService.listFloatingIps(new ListFilter()));
+      Future<List<RouterDetailsDto>> routers = fork(tasks, context, () -> networkService.listRouters(new ListFilter()));
+
+      List<String> failedSections = new ArrayList<>();
+      DashboardDto dashboard = DashboardDto.builder()
+              .user(UserDetailDto.fromToken(context.getToken()))
+              .project(join(tasks, project, started.plus(projectTimeout), "project", failedSections))
+              .limits(join(tasks, limits, started.plus(limitsTimeout), "limits", failedSections))
+              .servers(join(tasks, servers, started.plus(serversTimeout), "servers", failedSections))
+              .floatingIps(join(tasks, floatingIps, started.plus(floatingIpsTimeout), "floatingIps", failedSections))
+              .routers(join(tasks, routers, started.plus(routersTimeout), "routers", failedSections))
+              .failedSections(failedSections)
+              .build();
+
+      log.info("대시보드 조회 완료: {}ms, 실패 항목={}", Duration.between(started, Instant.now()).toMillis(), failedSections);
+      return dashboard;
+    }
+  }
+
+  /**
+   * 항목을 가상 스레드에서 조회합니다. 요청 스레드의 OpenstackContext와 SecurityContext를 바인딩하여 실행합니다.
+   */
+  private <T> Future<T> fork(ParallelTasks tasks, OpenstackContext context, Supplier<T> section) {
+    return tasks.fork(new DelegatingSecurityContextCallable<>(() -> OpenstackContext.callWith(context, section)));
+  }
+
+  /**
+   * 항목의 마감 시각까지 결과를 기다리고, 실패하거나 마감 시각을 넘기면 항목 이름을 failedSections에 추가하고 null을 반환합니다.
+   */
+  private <T> T join(ParallelTasks tasks, Future<T> future, Instant sectionDeadline, String section, List<String> failedSections) {
+    T value = tasks.join(future, Duration.between(Instant.now(), sectionDeadline), null, "대시보드 " + section + " 조회");
+    if (value == null) {
+      failedSections.add(section);
+    }
+    return value;
+  }
+}
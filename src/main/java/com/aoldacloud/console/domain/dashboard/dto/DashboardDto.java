@@ -0,0 +1,40 @@
+package com.aoldacloud.console.domain.dashboard.dto;
+
+import com.aoldacloud.console.domain.auth.dto.ProjectInfoDto;
+import com.aoldacloud.console.domain.auth.dto.UserDetailDto;
+import com.aoldacloud.console.domain.compute.dto.AbsoluteLimitDto;
+import com.aoldacloud.console.domain.compute.dto.ServerDetailsDto;
+import com.aoldacloud.console.domain.network.dto.FloatingIpDetailsDto;
+import com.aoldacloud.console.domain.network.dto.RouterDetailsDto;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@Schema(description = "대시보드 화면에 필요한 정보를 한 번에 담는 DTO. 조회에 실패하거나 제한 시간을 넘긴 항목은 null이며 failedSections에 이름이 포함됩니다.")
+public class DashboardDto {
+
+  @Schema(description = "로그인한 사용자 정보")
+  private final UserDetailDto user;
+
+  @Schema(description = "현재 프로젝트와 사용 가능한 프로젝트 목록")
+  private final ProjectInfoDto project;
+
+  @Schema(description = "현재 프로젝트의 리소스 쿼터")
+  private final AbsoluteLimitDto limits;
+
+  @Schema(description = "가상머신 목록")
+  private final List<ServerDetailsDto> servers;
+
+  @Schema(description = "플로팅 IP 목록")
+  private final List<FloatingIpDetailsDto> floatingIps;
+
+  @Schema(description = "라우터 목록")
+  private final List<RouterDetailsDto> routers;
+
+  @Schema(description = "조회에 실패하거나 제한 시간을 넘긴 항목 이름", example = "[\"servers\"]")
+  private final List<String> failedSections;
+}
@@ -1,7 +1,11 @@
 package com.aoldacloud.console.domain.network;
 
 import com.aoldacloud.console.domain.network.dto.*;
+import com.aoldacloud.console.global.ListFilter;
 import com.aoldacloud.console.global.ResponseWrapper;
+import com.aoldacloud.console.global.StreamingResponseWrapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Hidden;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,9 +14,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,6 +30,7 @@ import java.util.List;
 public class NetworkController {
 
     private final NetworkService networkService;
+    private final ObjectMapper objectMapper;
 
 
     // Subnet
@@ -60,8 +67,9 @@ public class NetworkController {
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/subnets")
-    public ResponseEntity<ResponseWrapper<List<SubnetDetailsDto>>> listSubnets() {
-        List<SubnetDetailsDto> subnets = networkService.listSubnets();
+    public ResponseEntity<ResponseWrapper<List<SubnetDetailsDto>>> listSubnets(@ParameterObject ListFilter filter) {
+        filter.validate();
+        List<SubnetDetailsDto> subnets = networkService.listSubnets(filter);
         return ResponseWrapper.success(subnets);
     }
 
@@ -123,7 +131,7 @@ public class NetworkController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "포트 목록 조회", description = "포트 목록을 조회합니다.")
+    @Operation(summary = "포트 목록 조회", description = "포트 목록을 조회합니다. stream=true를 지정하면 항목을 변환하는 즉시 스트리밍으로 응답합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "포트 목록 조회 성공",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = PortDetailsDto.class))),
@@ -131,11 +139,19 @@ public class NetworkController {
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/ports")
-    public ResponseEntity<ResponseWrapper<List<PortDetailsDto>>> listPorts() {
-        List<PortDetailsDto> ports = networkService.listPorts();
+    public ResponseEntity<ResponseWrapper<List<PortDetailsDto>>> listPorts(@ParameterObject ListFilter filter) {
+        filter.validate();
+        List<PortDetailsDto> ports = networkService.listPorts(filter);
         return ResponseWrapper.success(ports);
     }
 
+    @Hidden
+    @GetMapping(value = "/ports", params = "stream=true")
+    public ResponseEntity<StreamingResponseBody> streamPorts(@ParameterObject ListFilter filter) {
+        filter.validate();
+        return StreamingResponseWrapper.success(objectMapper, networkService.streamPorts(filter));
+    }
+
     @Operation(summary = "포트 상세 정보 조회", description = "특정 포트의 상세 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "포트 상세 정보 조회 성공",
@@ -202,8 +218,9 @@ public class NetworkController {
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/routers")
-    public ResponseEntity<ResponseWrapper<List<RouterDetailsDto>>> listRouters() {
-        List<RouterDetailsDto> routers = networkService.listRouters();
+    public ResponseEntity<ResponseWrapper<List<RouterDetailsDto>>> listRouters(@ParameterObject ListFilter filter) {
+        filter.validate();
+        List<RouterDetailsDto> routers = networkService.listRouters(filter);
         return ResponseWrapper.success(routers);
     }
 
@@ -284,8 +301,9 @@ public class NetworkController {
                     content = @Content(mediaType = "application/json"))
     })
     @GetMapping("/fips")
-    public ResponseEntity<ResponseWrapper<List<FloatingIpDetailsDto>>> listFloatingIps() {
-        List<FloatingIpDetailsDto> floatingIps = networkService.listFloatingIps();
+    public ResponseEntity<ResponseWrapper<List<FloatingIpDetailsDto>>> listFloatingIps(@ParameterObject ListFilter filter) {
+        filter.validate();
+        List<FloatingIpDetailsDto> floatingIps = networkService.listFloatingIps(filter);
         return ResponseWrapper.success(floatingIps);
     }
 
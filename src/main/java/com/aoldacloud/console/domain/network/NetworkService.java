@@ -1,6 +1,9 @@
 package com.aoldacloud.console.domain.network;
 
 import com.aoldacloud.console.domain.network.dto.*;
+import com.aoldacloud.console.global.ListFilter;
+import com.aoldacloud.console.global.cache.InventoryCache;
+import com.aoldacloud.console.global.cache.InventoryResource;
 import com.aoldacloud.console.global.repository.NeutronRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,6 +15,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
@@ -19,11 +23,13 @@ import java.util.stream.Collectors;
 public class NetworkService {
 
   private final NeutronRepository neutronRepository;
+  private final InventoryCache inventoryCache;
 
   public SubnetDetailsDto createSubnet(SubnetCreateDto subnetCreateDto) {
     try {
       log.info("서브넷 생성 요청: {}", subnetCreateDto.getName());
       Subnet createdSubnet = neutronRepository.createSubnet(subnetCreateDto);
+      inventoryCache.invalidate(InventoryResource.SUBNETS, InventoryResource.PORTS);
       log.info("서브넷 생성 성공: {}", createdSubnet.getId());
       return new SubnetDetailsDto(createdSubnet);
     } catch (RuntimeException ex) {
@@ -36,6 +42,7 @@ public class NetworkService {
     try {
       log.info("서브넷 삭제 요청: {}", subnetId);
       neutronRepository.deleteSubnet(subnetId);
+      inventoryCache.invalidate(InventoryResource.SUBNETS, InventoryResource.PORTS);
       log.info("서브넷 삭제 성공: {}", subnetId);
     } catch (RuntimeException ex) {
       log.error("서브넷 삭제 실패: {}", ex.getMessage());
@@ -43,10 +50,10 @@ public class NetworkService {
     }
   }
 
-  public List<SubnetDetailsDto> listSubnets() {
+  public List<SubnetDetailsDto> listSubnets(ListFilter filter) {
     try {
-      log.info("서브넷 목록 요청");
-      return neutronRepository.listSubnets().stream()
+      log.info("서브넷 목록 요청: {}", filter);
+      return neutronRepository.listSubnets(filter).stream()
               .map(SubnetDetailsDto::new)
               .collect(Collectors.toList());
     } catch (RuntimeException ex) {
@@ -73,6 +80,7 @@ public class NetworkService {
     try {
       log.info("포트 생성 요청: {}", portCreateDto.getName());
       Port createdPort = neutronRepository.createPort(portCreateDto);
+      inventoryCache.invalidate(InventoryResource.PORTS, InventoryResource.SERVERS);
       log.info("포트 생성 성공: {}", createdPort.getId());
       return new PortDetailsDto(createdPort);
     } catch (RuntimeException ex) {
@@ -85,6 +93,7 @@ public class NetworkService {
     try {
       log.info("포트 업데이트 요청: {}", portUpdateDto.getPortId());
       Port updatedPort = neutronRepository.updatePort(portUpdateDto);
+      inventoryCache.invalidate(InventoryResource.PORTS, InventoryResource.SERVERS);
       log.info("포트 업데이트 성공: {}", updatedPort.getId());
       return new PortDetailsDto(updatedPort);
     } catch (RuntimeException ex) {
@@ -97,6 +106,7 @@ public class NetworkService {
     try {
       log.info("포트 삭제 요청: {}", portId);
       neutronRepository.deletePort(portId);
+      inventoryCache.invalidate(InventoryResource.PORTS, InventoryResource.SERVERS);
       log.info("포트 삭제 성공: {}", portId);
     } catch (RuntimeException ex) {
       log.error("포트 삭제 실패: {}", ex.getMessage());
@@ -104,10 +114,10 @@ public class NetworkService {
     }
   }
 
-  public List<PortDetailsDto> listPorts() {
+  public List<PortDetailsDto> listPorts(ListFilter filter) {
     try {
-      log.info("포트 목록 요청");
-      return neutronRepository.listPorts().stream()
+      log.info("포트 목록 요청: {}", filter);
+      return neutronRepository.listPorts(filter).stream()
               .map(PortDetailsDto::new)
               .collect(Collectors.toList());
     } catch (RuntimeException ex) {
@@ -116,6 +126,20 @@ public class NetworkService {
     }
   }
 
+  /**
+   * 포트 목록을 조회하고, 응답을 기록하면서 DTO로 변환하는 지연 스트림을 반환합니다.
+   */
+  public Stream<PortDetailsDto> streamPorts(ListFilter filter) {
+    try {
+      log.info("포트 목록 스트리밍 요청: {}", filter);
+      return neutronRepository.listPorts(filter).stream()
+              .map(PortDetailsDto::new);
+    } catch (RuntimeException ex) {
+      log.error("포트 목록 조회 실패: {}", ex.getMessage());
+      throw new RuntimeException("포트 목록 조회 중 오류가 발생했습니다.", ex);
+    }
+  }
+
   public PortDetailsDto getPortDetails(String portId) {
     try {
       log.info("포트 상세 정보 요청: {}", portId);
@@ -134,6 +158,7 @@ public class NetworkService {
     try {
       log.info("라우터 생성 요청: {}", routerCreateDto.getName());
       Router createdRouter = neutronRepository.createRouter(routerCreateDto);
+      inventoryCache.invalidate(InventoryResource.ROUTERS, InventoryResource.PORTS);
       log.info("라우터 생성 성공: {}", createdRouter.getId());
       return new RouterDetailsDto(createdRouter);
     } catch (RuntimeException ex) {
@@ -146,6 +171,7 @@ public class NetworkService {
     try {
       log.info("라우터 업데이트 요청: {}", routerUpdateDto.getRouterId());
       Router updatedRouter = neutronRepository.updateRouter(routerUpdateDto);
+      inventoryCache.invalidate(InventoryResource.ROUTERS);
       log.info("라우터 업데이트 성공: {}", updatedRouter.getId());
       return new RouterDetailsDto(updatedRouter);
     } catch (RuntimeException ex) {
@@ -158,6 +184,7 @@ public class NetworkService {
     try {
       log.info("라우터 삭제 요청: {}", routerId);
       neutronRepository.deleteRouter(routerId);
+      inventoryCache.invalidate(InventoryResource.ROUTERS, InventoryResource.PORTS);
       log.info("라우터 삭제 성공: {}", routerId);
     } catch (RuntimeException ex) {
       log.error("라우터 삭제 실패: {}", ex.getMessage());
@@ -165,10 +192,10 @@ public class NetworkService {
     }
   }
 
-  public List<RouterDetailsDto> listRouters() {
+  public List<RouterDetailsDto> listRouters(ListFilter filter) {
     try {
-      log.info("라우터 목록 요청");
-      return neutronRepository.listRouters().stream()
+      log.info("라우터 목록 요청: {}", filter);
+      return neutronRepository.listRouters(filter).stream()
               .map(RouterDetailsDto::new)
               .collect(Collectors.toList());
     } catch (RuntimeException ex) {
@@ -195,6 +222,7 @@ public class NetworkService {
     try {
       log.info("라우터 인터페이스 연결 요청: {}", routerAttachDetachDto.getRouterId());
       neutronRepository.attachRouter(routerAttachDetachDto);
+      inventoryCache.invalidate(InventoryResource.ROUTERS, InventoryResource.PORTS);
     } catch (RuntimeException ex) {
       log.error("라우터 인터페이스 연결 실패: {}", ex.getMessage());
       throw new RuntimeException("라우터 인터페이스 연결 중 오류가 발생했습니다.", ex);
@@ -205,6 +233,7 @@ public class NetworkService {
     try {
       log.info("라우터 인터페이스 연결 해제 요청: {}", routerAttachDetachDto.getRouterId());
       neutronRepository.detachRouter(routerAttachDetachDto);
+      inventoryCache.invalidate(InventoryResource.ROUTERS, InventoryResource.PORTS);
     } catch (RuntimeException ex) {
       log.error("라우터 인터페이스 연결 해제 실패: {}", ex.getMessage());
       throw new RuntimeException("라우터 인터페이스 연결 해제 중 오류가 발생했습니다.", ex);
@@ -215,16 +244,17 @@ public class NetworkService {
     try {
       log.info("라우터 상태 변경 요청: {}", routerToggleStateDto.getRouterId());
       neutronRepository.toggleStateRouter(routerToggleStateDto);
+      inventoryCache.invalidate(InventoryResource.ROUTERS);
     } catch (RuntimeException ex) {
       log.error("라우터 상태 변경 실패: {}", ex.getMessage());
       throw new RuntimeException("라우터 상태 변경 중 오류가 발생했습니다.", ex);
     }
   }
 
-  public List<FloatingIpDetailsDto> listFloatingIps() {
+  public List<FloatingIpDetailsDto> listFloatingIps(ListFilter filter) {
     try {
-      log.info("Floating IP 목록 요청");
-      return neutronRepository.listFloatingIps().stream()
+      log.info("Floating IP 목록 요청: {}", filter);
+      return neutronRepository.listFloatingIps(filter).stream()
               .map(FloatingIpDetailsDto::new)
               .collect(Collectors.toList());
     } catch (RuntimeException ex) {
@@ -238,6 +268,7 @@ public class NetworkService {
     try {
       log.info("Floating IP 생성 요청: {}", floatingIpCreateDto.getNetworkId());
       NetFloatingIP createdFIp = neutronRepository.createFloatingIp(floatingIpCreateDto);
+      inventoryCache.invalidate(InventoryResource.FLOATING_IPS, InventoryResource.SERVERS);
       log.info("Floating IP 생성 성공: {}", createdFIp.getId());
       return new FloatingIpDetailsDto(createdFIp);
     } catch (RuntimeException ex) {
@@ -250,6 +281,7 @@ public class NetworkService {
     try {
       log.info("Floating IP 삭제 요청: {}", floatingIpId);
       neutronRepository.deleteFloatingIp(floatingIpId);
+      inventoryCache.invalidate(InventoryResource.FLOATING_IPS, InventoryResource.SERVERS);
       log.info("Floating IP 삭제 성공: {}", floatingIpId);
     } catch (RuntimeException ex) {
       log.error("Floating IP 삭제 실패: {}", ex.getMessage());
@@ -0,0 +1,37 @@
+package com.aoldacloud.console.global;
+
+import com.aoldacloud.console.domain.compute.ComputeController;
+import com.aoldacloud.console.domain.network.NetworkController;
+import com.aoldacloud.console.global.cache.CacheAge;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 캐시된 데이터로 응답한 GET 요청에 데이터의 나이를 초 단위 Age 헤더로 추가합니다.
+ * stale-while-revalidate로 오래된 데이터를 받은 클라이언트가 데이터의 신선도를 판단할 수 있도록 합니다.
+ */
+@ControllerAdvice(assignableTypes = {ComputeController.class, NetworkController.class})
+public class CacheAgeResponseAdvice implements ResponseBodyAdvice<Object> {
+
+  @Override
+  public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+    return true;
+  }
+
+  @Override
+  public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                ServerHttpRequest request, ServerHttpResponse response) {
+    if (HttpMethod.GET.equals(request.getMethod())) {
+      CacheAge.current().ifPresent(age -> response.getHeaders().set(HttpHeaders.AGE, String.valueOf(age.toSeconds())));
+    }
+    return body;
+  }
+}
@@ -0,0 +1,35 @@
+package com.aoldacloud.console.global;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 마커(marker) 기반 페이지 조회 결과입니다.
+ *
+ * @param items 현재 페이지의 항목
+ * @param nextMarker 다음 페이지를 조회할 때 사용할 마커 (마지막 페이지이면 null)
+ */
+public record CursorPage<T>(List<T> items, String nextMarker) implements Serializable {
+
+  /**
+   * limit보다 하나 더 조회한 결과로 페이지를 생성합니다.
+   * 조회 결과가 limit을 초과하면 다음 페이지가 있는 것으로 보고, 현재 페이지의 마지막 항목을 다음 마커로 사용합니다.
+   *
+   * @param fetched limit + 1개까지 조회한 결과
+   * @param limit 페이지 크기
+   * @param markerOf 항목에서 마커를 추출하는 함수
+   * @return CursorPage
+   */
+  public static <T> CursorPage<T> of(List<T> fetched, int limit, Function<T, String> markerOf) {
+    if (fetched.size() <= limit) {
+      return new CursorPage<>(fetched, null);
+    }
+    List<T> items = List.copyOf(fetched.subList(0, limit));
+    return new CursorPage<>(items, markerOf.apply(items.getLast()));
+  }
+
+  public <R> CursorPage<R> map(Function<List<T>, List<R>> mapper) {
+    return new CursorPage<>(mapper.apply(items), nextMarker);
+  }
+}
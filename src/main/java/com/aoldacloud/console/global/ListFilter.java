@@ -0,0 +1,108 @@
+package com.aoldacloud.console.global;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 목록 조회 API의 필터와 정렬 조건입니다.
+ * 각 Repository는 업스트림 API가 지원하는 조건은 쿼리 파라미터로 전달하고,
+ * 지원하지 않는 조건만 조회 결과에 직접 적용합니다.
+ */
+@Data
+@Schema(description = "목록 조회 필터와 정렬 조건")
+public class ListFilter {
+
+  private static final Set<String> SORT_KEYS = Set.of("name", "id", "status", "created_at");
+  private static final Set<String> SORT_DIRS = Set.of("asc", "desc");
+
+  @Schema(description = "상태", example = "ACTIVE")
+  private String status;
+
+  @Schema(description = "이름 접두사", example = "web-")
+  private String name;
+
+  @Schema(description = "네트워크 ID")
+  private String networkId;
+
+  @Schema(description = "연결된 장치 ID (포트 전용)")
+  private String deviceId;
+
+  @Schema(description = "정렬 기준 (name, id, status, created_at)", example = "name")
+  private String sortKey;
+
+  @Schema(description = "정렬 방향 (asc, desc)", example = "asc")
+  private String sortDir;
+
+  /**
+   * 정렬 조건이 지원하는 값인지 검사합니다.
+   *
+   * @throws IllegalArgumentException 지원하지 않는 정렬 기준 또는 방향인 경우
+   */
+  public void validate() {
+    if (sortKey != null && !SORT_KEYS.contains(sortKey)) {
+      throw new IllegalArgumentException("지원하지 않는 정렬 기준입니다: " + sortKey);
+    }
+    if (sortDir != null && !SORT_DIRS.contains(sortDir)) {
+      throw new IllegalArgumentException("지원하지 않는 정렬 방향입니다: " + sortDir);
+    }
+  }
+
+  public boolean hasName() {
+    return name != null && !name.isEmpty();
+  }
+
+  public boolean matchesName(String value) {
+    return !hasName() || (value != null && value.startsWith(name));
+  }
+
+  public boolean matchesStatus(String value) {
+    return status == null || status.equalsIgnoreCase(value);
+  }
+
+  public boolean matchesNetworkId(String value) {
+    return networkId == null || networkId.equals(value);
+  }
+
+  public boolean matchesDeviceId(String value) {
+    return deviceId == null || deviceId.equals(value);
+  }
+
+  /**
+   * 캐시 키에 사용할 정규화된 문자열을 반환합니다.
+   * 각 값을 URL 인코딩하고 null은 인코딩 결과에 나올 수 없는 ~로 표시하므로, 서로 다른 필터가 같은 문자열이 되지 않습니다.
+   *
+   * @return 정규화된 필터 문자열
+   */
+  public String toCacheKey() {
+    return Stream.of(status, name, networkId, deviceId, sortKey, sortDir)
+            .map(value -> value == null ? "~" : URLEncoder.encode(value, StandardCharsets.UTF_8))
+            .collect(Collectors.joining("&"));
+  }
+
+  /**
+   * 업스트림 API가 정렬을 지원하지 않는 목록을 정렬 조건에 따라 정렬합니다.
+   *
+   * @param items 정렬할 목록
+   * @param sortKeys 정렬 기준별 값 추출 함수 (지원하지 않는 기준이면 원래 순서를 유지)
+   * @return 정렬된 목록
+   */
+  public <T> List<T> sort(Stream<T> items, Map<String, Function<T, String>> sortKeys) {
+    Function<T, String> keyExtractor = sortKey == null ? null : sortKeys.get(sortKey);
+    if (keyExtractor == null) {
+      return items.collect(Collectors.toList());
+    }
+    Comparator<T> comparator = Comparator.comparing(keyExtractor, Comparator.nullsLast(Comparator.naturalOrder()));
+    return items.sorted("desc".equals(sortDir) ? comparator.reversed() : comparator)
+            .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,98 @@
+package com.aoldacloud.console.global;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.model.identity.v3.Token;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 세션의 Keystone 토큰 ID별로 Keystone 재인증으로 발급받은 API 호출용 토큰을 캐싱하는 클래스입니다.
+ * openstack4j 클라이언트는 스레드에 바인딩되므로 클라이언트 대신 인증된 토큰을 보관하고,
+ * 호출 시점의 스레드에서 네트워크 호출 없이 클라이언트를 다시 생성합니다.
+ * 각 항목은 토큰 만료 시각보다 여유 시간만큼 먼저 만료되며, 로그아웃하거나 프로젝트를 변경하면 제거합니다.
+ */
+@Slf4j
+@Component
+public class OpenstackClientCache {
+
+  /**
+   * 토큰 만료 직전의 요청이 실패하지 않도록 만료 시간보다 앞서 캐시에서 제거하는 여유 시간입니다.
+   */
+  private static final Duration EXPIRY_SKEW = Duration.ofSeconds(30);
+
+  private final Cache<String, Token> tokens;
+
+  public OpenstackClientCache(@Value("${aoldacloud.cache.openstack-token.maximum-size:10000}") long maximumSize) {
+    this.tokens = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new TokenExpiry())
+            .build();
+  }
+
+  /**
+   * 캐싱된 인증 토큰을 반환합니다.
+   *
+   * @param tokenId 세션의 Keystone 토큰 ID
+   * @return 캐싱된 토큰 또는 null (없거나 만료가 임박한 경우)
+   */
+  public Token get(String tokenId) {
+    return tokens.getIfPresent(tokenId);
+  }
+
+  /**
+   * 인증된 토큰을 캐싱합니다. 이미 만료가 임박한 토큰은 캐싱하지 않습니다.
+   *
+   * @param tokenId 세션의 Keystone 토큰 ID
+   * @param token 인증된 토큰
+   */
+  public void put(String tokenId, Token token) {
+    if (token == null || remainingOf(token) <= 0) {
+      return;
+    }
+    tokens.put(tokenId, token);
+    log.debug("OpenStack 인증 토큰 캐싱: projectId={}", token.getProject() == null ? null : token.getProject().getId());
+  }
+
+  /**
+   * 세션 토큰에 해당하는 캐시 항목을 제거합니다.
+   *
+   * @param tokenId 세션의 Keystone 토큰 ID
+   */
+  public void evict(String tokenId) {
+    tokens.invalidate(tokenId);
+  }
+
+  /**
+   * 토큰의 만료 시각(여유 시간 제외)까지 남은 시간을 나노초로 반환합니다. 만료 시각이 없으면 제한하지 않습니다.
+   */
+  private static long remainingOf(Token token) {
+    if (token.getExpires() == null) {
+      return Long.MAX_VALUE;
+    }
+    return Duration.between(Instant.now(), token.getExpires().toInstant().minus(EXPIRY_SKEW)).toNanos();
+  }
+
+  private static class TokenExpiry implements Expiry<String, Token> {
+
+    @Override
+    public long expireAfterCreate(String key, Token value, long currentTime) {
+      return Math.max(0, remainingOf(value));
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, Token value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(String key, Token value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package com.aoldacloud.console.global;
+
+import com.aoldacloud.console.security.entity.KeystoneUserDetails;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.Getter;
+import org.openstack4j.api.OSClient.OSClientV3;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.openstack.OSFactory;
+import org.openstack4j.openstack.internal.OSClientSession;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.function.Supplier;
+
+/**
+ * 하나의 HTTP 요청 동안 재사용되는 OpenStack 호출 컨텍스트입니다.
+ * 인증된 사용자 정보와 API 호출에 사용할 토큰을 요청당 한 번만 조회하여 요청 속성에 보관합니다.
+ */
+@Getter
+public class OpenstackContext {
+
+  private static final String ATTRIBUTE_NAME = OpenstackContext.class.getName();
+  private static final ThreadLocal<OpenstackContext> BOUND = new ThreadLocal<>();
+
+  private final KeystoneUserDetails userDetails;
+  private final Token token;
+
+  private OpenstackContext(KeystoneUserDetails userDetails, Token token) {
+    this.userDetails = userDetails;
+    this.token = token;
+  }
+
+  /**
+   * 현재 요청의 컨텍스트를 반환합니다. callWith로 바인딩된 컨텍스트가 있으면 우선 사용합니다.
+   *
+   * @return OpenstackContext
+   * @throws IllegalStateException 인증된 요청 또는 callWith 범위 밖에서 호출된 경우
+   */
+  public static OpenstackContext current() {
+    OpenstackContext bound = BOUND.get();
+    if (bound != null) {
+      return bound;
+    }
+
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    OpenstackContext context = attributes == null ? null
+            : (OpenstackContext) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+    if (context == null) {
+      throw new IllegalStateException("OpenStack 호출 컨텍스트가 없습니다.");
+    }
+    return context;
+  }
+
+  /**
+   * 인증된 요청의 컨텍스트를 생성하여 요청 속성에 보관합니다. 인증 필터에서 요청마다 한 번 호출합니다.
+   *
+   * @param request HTTP 요청
+   * @param userDetails 인증된 사용자 정보
+   * @param clientCache 재인증으로 발급받은 토큰의 캐시
+   * @return OpenstackContext
+   */
+  public static OpenstackContext init(HttpServletRequest request, KeystoneUserDetails userDetails, OpenstackClientCache clientCache) {
+    Token token = OpenstackService.resolveToken(userDetails.getCloudSession().getToken(), clientCache);
+    OpenstackContext context = new OpenstackContext(userDetails, token);
+    request.setAttribute(ATTRIBUTE_NAME, context);
+    return context;
+  }
+
+  /**
+   * 요청 스레드 밖(백그라운드 작업 등)에서 요청의 컨텍스트로 작업을 실행합니다.
+   * 작업 중에 호출되는 current()는 전달한 컨텍스트를 반환합니다.
+   *
+   * @param context 요청 스레드에서 가져온 컨텍스트
+   * @param task 실행할 작업
+   * @return 작업 결과
+   */
+  public static <T> T callWith(OpenstackContext context, Supplier<T> task) {
+    OpenstackContext previous = BOUND.get();
+    BOUND.set(context);
+    try {
+      return task.get();
+    } finally {
+      if (previous == null) {
+        BOUND.remove();
+      } else {
+        BOUND.set(previous);
+      }
+    }
+  }
+
+  /**
+   * 컨텍스트의 토큰으로 생성된 클라이언트를 반환합니다.
+   * openstack4j 클라이언트는 스레드에 바인딩되므로, 현재 스레드에 이미 같은 토큰의 클라이언트가 있으면 재사용하고
+   * 없으면 네트워크 호출 없이 새로 생성합니다.
+   *
+   * @return OSClientV3
+   */
+  public OSClientV3 getClient() {
+    if (OSClientSession.getCurrent() instanceof OSClientV3 client && client.getToken() == token) {
+      return client;
+    }
+    return OSFactory.clientFromToken(token);
+  }
+}
@@ -1,14 +1,19 @@
 package com.aoldacloud.console.global;
 
-import com.aoldacloud.console.util.SecurityUtils;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jboss.resteasy.spi.UnauthorizedException;
 import org.openstack4j.api.OSClient;
 import org.openstack4j.model.common.Identifier;
+import org.openstack4j.model.identity.AuthStore;
 import org.openstack4j.model.identity.v3.Token;
 import org.openstack4j.model.identity.v3.User;
 import org.openstack4j.openstack.OSFactory;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneAuth;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneToken;
+
+import java.time.Duration;
+import java.time.Instant;
 
 @Getter
 @Slf4j
@@ -21,20 +26,83 @@ public enum OpenstackService {
     this.endpoint = url;
   }
 
+  /**
+   * 세션 토큰 만료가 이 시간 이내로 임박한 경우 재사용하지 않고 Keystone 재인증을 수행합니다.
+   */
+  private static final Duration TOKEN_REFRESH_THRESHOLD = Duration.ofMinutes(5);
+
   public static OSClient.OSClientV3 getClient() {
     try {
-      Token token = SecurityUtils.getAuthenticatedUserDetails().getCloudSession().getToken();
-     return OSFactory.builderV3()
-              .token(token.getId())
-              .scopeToProject(Identifier.byId(token.getProject().getId()), Identifier.byName("default"))
-              .endpoint(OpenstackService.Keystone.getEndpoint())
-              .authenticate();
+      return OpenstackContext.current().getClient();
     }
     catch (Exception e) {
       throw new UnauthorizedException("클라우드 인증에 실패하였습니다.");
     }
   }
 
+  /**
+   * 세션 토큰으로부터 API 호출에 사용할 프로젝트 범위의 토큰을 구합니다.
+   * 세션 토큰이 서비스 카탈로그를 포함하고 만료가 임박하지 않았다면 네트워크 호출 없이 그대로 사용하며,
+   * 그렇지 않은 경우에만 Keystone 재인증을 수행하고 그 결과를 캐싱합니다.
+   *
+   * @param token 세션에 저장된 Keystone 토큰
+   * @param clientCache 재인증으로 발급받은 토큰의 캐시
+   * @return 클라이언트 생성에 사용할 토큰
+   */
+  public static Token resolveToken(Token token, OpenstackClientCache clientCache) {
+    if (isReusable(token)) {
+      return token;
+    }
+
+    Token cachedToken = clientCache.get(token.getId());
+    if (cachedToken != null) {
+      return cachedToken;
+    }
+
+    String projectId = token.getProject().getId();
+    log.debug("세션 토큰을 재사용할 수 없어 Keystone 재인증을 수행합니다: projectId={}", projectId);
+    OSClient.OSClientV3 client = OSFactory.builderV3()
+            .token(token.getId())
+            .scopeToProject(Identifier.byId(projectId), Identifier.byName("default"))
+            .endpoint(OpenstackService.Keystone.getEndpoint())
+            .authenticate();
+    clientCache.put(token.getId(), client.getToken());
+    return client.getToken();
+  }
+
+  /**
+   * 현재 토큰으로 다른 프로젝트 범위의 토큰을 발급받습니다(rescope). 패스워드로 다시 인증하지 않으며,
+   * 사용자가 해당 프로젝트에 역할이 없으면 Keystone이 거부합니다.
+   * 토큰 갱신과 세션 복원에 필요하도록 기존 로그인 자격 증명을 새 프로젝트 범위로 옮겨 둡니다.
+   *
+   * @param token 현재 세션의 Keystone 토큰
+   * @param projectId 변경할 프로젝트 ID
+   * @return 프로젝트 범위의 새 토큰
+   */
+  public static Token rescopeToken(Token token, String projectId) {
+    Token rescoped = OSFactory.builderV3()
+            .token(token.getId())
+            .scopeToProject(Identifier.byId(projectId), Identifier.byName("default"))
+            .endpoint(OpenstackService.Keystone.getEndpoint())
+            .authenticate()
+            .getToken();
+
+    AuthStore credentials = token.getCredentials();
+    if (credentials != null && credentials.getUsername() != null && rescoped instanceof KeystoneToken keystoneToken) {
+      keystoneToken.applyContext(rescoped.getEndpoint(), new KeystoneAuth(credentials.getUsername(), credentials.getPassword(),
+              Identifier.byId(rescoped.getUser().getDomainId()), KeystoneAuth.AuthScope.project(Identifier.byId(projectId))));
+    }
+    return rescoped;
+  }
+
+  private static boolean isReusable(Token token) {
+    return token.getProject() != null
+            && token.getEndpoint() != null
+            && token.getCatalog() != null && !token.getCatalog().isEmpty()
+            && token.getExpires() != null
+            && token.getExpires().toInstant().minus(TOKEN_REFRESH_THRESHOLD).isAfter(Instant.now());
+  }
+
   public static OSClient.OSClientV3 getClient(String username, String password) {
     return OSFactory.builderV3()
             .endpoint(OpenstackService.Keystone.getEndpoint())
@@ -0,0 +1,107 @@
+package com.aoldacloud.console.global;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 가상 스레드에서 여러 업스트림 호출을 동시에 실행하는 범위(scope)입니다.
+ * 동시 실행 개수를 제한하고, 범위 전체에 하나의 마감 시간을 적용합니다.
+ * 마감 시간이 지나거나 실패한 작업은 호출자가 지정한 기본값으로 대체되며, 범위를 닫으면 남은 작업은 취소됩니다.
+ */
+@Slf4j
+public final class ParallelTasks implements AutoCloseable {
+
+  private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+  private final Semaphore permits;
+  private final Instant deadline;
+
+  private ParallelTasks(int maxConcurrency, Duration timeout) {
+    this.permits = new Semaphore(maxConcurrency);
+    this.deadline = Instant.now().plus(timeout);
+  }
+
+  /**
+   * 새로운 범위를 엽니다.
+   *
+   * @param maxConcurrency 동시에 실행할 수 있는 최대 작업 수
+   * @param timeout 범위 전체의 마감 시간
+   * @return ParallelTasks
+   */
+  public static ParallelTasks open(int maxConcurrency, Duration timeout) {
+    return new ParallelTasks(maxConcurrency, timeout);
+  }
+
+  /**
+   * 작업을 가상 스레드에서 실행합니다. 동시 실행 개수를 초과하면 작업 스레드가 대기합니다.
+   *
+   * @param task 실행할 작업
+   * @return 작업 결과를 담은 Future
+   */
+  public <T> Future<T> fork(Callable<T> task) {
+    return executor.submit(() -> {
+      permits.acquire();
+      try {
+        return task.call();
+      } finally {
+        permits.release();
+      }
+    });
+  }
+
+  /**
+   * 범위의 마감 시간까지 작업 결과를 기다립니다.
+   *
+   * @param future fork로 실행한 작업
+   * @param fallback 실패하거나 마감 시간을 넘긴 경우 반환할 기본값
+   * @param description 로그에 남길 작업 설명
+   * @return 작업 결과 또는 기본값
+   */
+  public <T> T join(Future<T> future, T fallback, String description) {
+    return join(future, Duration.between(Instant.now(), deadline), fallback, description);
+  }
+
+  /**
+   * 지정한 시간과 범위의 마감 시간 중 먼저 도래하는 시점까지 작업 결과를 기다립니다.
+   *
+   * @param future fork로 실행한 작업
+   * @param timeout 이 작업에 적용할 최대 대기 시간
+   * @param fallback 실패하거나 마감 시간을 넘긴 경우 반환할 기본값
+   * @param description 로그에 남길 작업 설명
+   * @return 작업 결과 또는 기본값
+   */
+  public <T> T join(Future<T> future, Duration timeout, T fallback, String description) {
+    Duration remaining = Duration.between(Instant.now(), deadline);
+    long waitMillis = Math.max(0, Math.min(timeout.toMillis(), remaining.toMillis()));
+    try {
+      return future.get(waitMillis, TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      future.cancel(true);
+      log.warn("{} 작업이 제한 시간({}ms)을 초과했습니다.", description, waitMillis);
+    } catch (ExecutionException e) {
+      log.error("{} 작업 중 오류 발생: {}", description, e.getCause().toString());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      future.cancel(true);
+      log.warn("{} 작업 대기 중 인터럽트가 발생했습니다.", description);
+    }
+    return fallback;
+  }
+
+  /**
+   * 범위를 닫습니다. 완료되지 않은 작업은 취소되며, 응답 지연을 막기 위해 종료를 기다리지 않습니다.
+   */
+  @Override
+  public void close() {
+    executor.shutdownNow();
+  }
+}
@@ -1,5 +1,6 @@
 package com.aoldacloud.console.global;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
@@ -26,11 +27,22 @@ public class ResponseWrapper<T> {
   @Schema(description = "결과 시간", example = "2024-08-15T04:38:41.636836")
   private final String timeStamp = LocalDateTime.now().toString();
 
+  @Schema(description = "다음 페이지 조회에 사용할 마커 (페이지 조회가 아니거나 마지막 페이지이면 생략)")
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextMarker;
+
   @Schema(description = "성공적인 응답을 생성합니다.")
   public static <T> ResponseEntity<ResponseWrapper<T>> success(T data) {
     return ResponseEntity.ok(new ResponseWrapper<>(true, data, null));
   }
 
+  @Schema(description = "다음 페이지 마커를 포함한 성공적인 응답을 생성합니다.")
+  public static <T> ResponseEntity<ResponseWrapper<T>> success(T data, String nextMarker) {
+    ResponseWrapper<T> wrapper = new ResponseWrapper<>(true, data, null);
+    wrapper.nextMarker = nextMarker;
+    return ResponseEntity.ok(wrapper);
+  }
+
   @Schema(description = "성공적인 생성 응답을 생성합니다.")
   public static <T> ResponseEntity<ResponseWrapper<T>> created(T data) {
     return ResponseEntity.status(HttpStatus.CREATED).body(new ResponseWrapper<>(true, data, null));
@@ -0,0 +1,79 @@
+package com.aoldacloud.console.global;
+
+import com.aoldacloud.console.global.cache.CacheAge;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * ResponseWrapper와 같은 형식의 응답을 항목 단위로 스트리밍하는 클래스입니다.
+ * 전체 DTO 목록과 직렬화 결과를 메모리에 올리지 않고, 항목을 변환하는 즉시 응답에 기록합니다.
+ */
+@Slf4j
+public final class StreamingResponseWrapper {
+
+  /**
+   * 이 개수의 항목을 기록할 때마다 버퍼를 비워 클라이언트가 응답을 먼저 받을 수 있도록 합니다.
+   */
+  private static final int FLUSH_INTERVAL = 100;
+
+  private StreamingResponseWrapper() {
+  }
+
+  /**
+   * 성공 응답을 스트리밍으로 생성합니다. data는 응답을 기록하는 시점에 순서대로 소비됩니다.
+   * 응답 본문은 요청 스레드가 아닌 비동기 스레드에서 기록되므로, data는 요청 범위의 정보에 의존하지 않아야 합니다.
+   * 캐시된 목록으로 응답하는 경우 데이터의 나이를 Age 헤더로 추가합니다.
+   * <p>
+   * 상태 코드(200)는 첫 항목을 기록하기 전에 전송되므로, 기록 중 data에서 예외가 발생하면 오류 응답으로 바꿀 수 없습니다.
+   * 이 경우 닫히지 않은 배열과 객체를 보완하지 않고 그때까지 기록한 내용만 보낸 뒤 예외를 다시 던집니다.
+   * 클라이언트는 본문이 올바른 JSON으로 끝나지 않으면 응답이 중간에 실패한 것으로 처리해야 하며,
+   * 일부 항목만 담긴 성공 응답을 받는 경우는 없습니다.
+   *
+   * @param objectMapper 직렬화에 사용할 ObjectMapper
+   * @param data 응답 데이터 스트림
+   * @return 스트리밍 응답
+   */
+  public static <T> ResponseEntity<StreamingResponseBody> success(ObjectMapper objectMapper, Stream<T> data) {
+    String timeStamp = LocalDateTime.now().toString();
+
+    StreamingResponseBody body = outputStream -> {
+      try (data; JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+        generator.writeStartObject();
+        generator.writeBooleanField("success", true);
+        generator.writeArrayFieldStart("data");
+
+        int count = 0;
+        for (Iterator<T> iterator = data.iterator(); iterator.hasNext(); ) {
+          generator.writeObject(iterator.next());
+          if (++count % FLUSH_INTERVAL == 0) {
+            generator.flush();
+          }
+        }
+
+        generator.writeEndArray();
+        generator.writeNullField("error");
+        generator.writeStringField("timeStamp", timeStamp);
+        generator.writeEndObject();
+        log.debug("스트리밍 응답 완료: {}개 항목", count);
+      } catch (RuntimeException ex) {
+        log.error("스트리밍 응답 기록 중 오류 발생: {}", ex.getMessage());
+        throw ex;
+      }
+    };
+
+    ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON);
+    CacheAge.current().ifPresent(age -> builder.header(HttpHeaders.AGE, String.valueOf(age.toSeconds())));
+    return builder.body(body);
+  }
+}
@@ -0,0 +1,48 @@
+package com.aoldacloud.console.global.cache;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 현재 요청의 응답에 사용된 캐시 데이터의 나이를 기록하는 클래스입니다.
+ * 여러 캐시 항목이 사용된 경우 가장 오래된 항목의 나이를 유지하며, 응답의 Age 헤더로 전달됩니다.
+ */
+public final class CacheAge {
+
+  private static final String ATTRIBUTE_NAME = CacheAge.class.getName();
+
+  private CacheAge() {
+  }
+
+  /**
+   * 응답에 사용된 캐시 데이터의 나이를 기록합니다. 요청 범위 밖에서 호출되면 무시합니다.
+   *
+   * @param age 캐시 데이터의 나이 (새로 조회한 경우 0)
+   */
+  public static void record(Duration age) {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return;
+    }
+    Duration recorded = (Duration) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST);
+    if (recorded == null || age.compareTo(recorded) > 0) {
+      attributes.setAttribute(ATTRIBUTE_NAME, age, RequestAttributes.SCOPE_REQUEST);
+    }
+  }
+
+  /**
+   * 현재 요청에서 기록된 캐시 데이터의 나이를 반환합니다.
+   *
+   * @return 캐시 데이터의 나이 (캐시를 사용하지 않은 경우 empty)
+   */
+  public static Optional<Duration> current() {
+    RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+    if (attributes == null) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable((Duration) attributes.getAttribute(ATTRIBUTE_NAME, RequestAttributes.SCOPE_REQUEST));
+  }
+}
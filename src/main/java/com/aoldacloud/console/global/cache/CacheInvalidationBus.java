@@ -0,0 +1,79 @@
+package com.aoldacloud.console.global.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub으로 캐시 무효화 이벤트를 모든 서버 인스턴스에 전파하는 클래스입니다.
+ * 한 인스턴스에서 리소스를 변경하면 다른 인스턴스의 로컬(L1) 캐시도 즉시 제거되도록 합니다.
+ * Redis를 사용하지 않는 단일 인스턴스 배포(aoldacloud.session.store=memory)에서는 이벤트를 같은 인스턴스의 구독자에게만 전달합니다.
+ */
+@Slf4j
+@Component
+public class CacheInvalidationBus {
+
+  private static final String CHANNEL_PREFIX = "aoldacloud:cache:invalidate:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final RedisMessageListenerContainer redisMessageListenerContainer;
+  private final Map<String, List<Consumer<String>>> localHandlers = new ConcurrentHashMap<>();
+
+  public CacheInvalidationBus(StringRedisTemplate stringRedisTemplate,
+                              ObjectProvider<RedisMessageListenerContainer> redisMessageListenerContainer) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.redisMessageListenerContainer = redisMessageListenerContainer.getIfAvailable();
+  }
+
+  /**
+   * 캐시의 무효화 이벤트를 구독합니다. 자신이 발행한 이벤트도 전달됩니다.
+   *
+   * @param cacheName 캐시 이름
+   * @param handler 무효화 이벤트 내용을 처리하는 함수
+   */
+  public void subscribe(String cacheName, Consumer<String> handler) {
+    if (redisMessageListenerContainer == null) {
+      localHandlers.computeIfAbsent(cacheName, name -> new CopyOnWriteArrayList<>()).add(handler);
+      return;
+    }
+    redisMessageListenerContainer.addMessageListener((message, pattern) ->
+            dispatch(cacheName, handler, new String(message.getBody(), StandardCharsets.UTF_8)),
+            new ChannelTopic(CHANNEL_PREFIX + cacheName));
+  }
+
+  /**
+   * 캐시의 무효화 이벤트를 발행합니다. Redis에 연결할 수 없으면 로그만 남기며, 다른 인스턴스의 캐시는 TTL이 지나면 만료됩니다.
+   *
+   * @param cacheName 캐시 이름
+   * @param payload 무효화 이벤트 내용
+   */
+  public void publish(String cacheName, String payload) {
+    if (redisMessageListenerContainer == null) {
+      localHandlers.getOrDefault(cacheName, List.of()).forEach(handler -> dispatch(cacheName, handler, payload));
+      return;
+    }
+    try {
+      stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + cacheName, payload);
+    } catch (RuntimeException ex) {
+      log.warn("캐시 [{}] 무효화 이벤트 발행 실패: {} {}", cacheName, payload, ex.toString());
+    }
+  }
+
+  private void dispatch(String cacheName, Consumer<String> handler, String payload) {
+    try {
+      handler.accept(payload);
+    } catch (RuntimeException ex) {
+      log.error("캐시 [{}] 무효화 이벤트 처리 중 오류 발생: {} {}", cacheName, payload, ex.toString());
+    }
+  }
+}
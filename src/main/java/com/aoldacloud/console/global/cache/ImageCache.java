@@ -0,0 +1,124 @@
+package com.aoldacloud.console.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.model.image.v2.Image;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 모든 사용자가 공유하는 Glance 이미지 메타데이터 캐시입니다.
+ * 공개(public) 이미지는 프로젝트와 관계없이 하나의 항목으로 공유하고,
+ * 그 외의 이미지는 조회한 프로젝트별로 분리하여 다른 프로젝트에 노출되지 않도록 합니다.
+ */
+@Slf4j
+@Component
+public class ImageCache {
+
+  private static final String PUBLIC_SCOPE = "public";
+
+  private final Cache<ImageKey, Image> cache;
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+
+  public ImageCache(@Value("${aoldacloud.cache.image.maximum-size:1000}") long maximumSize,
+                    @Value("${aoldacloud.cache.image.ttl:10m}") Duration ttl) {
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+  }
+
+  /**
+   * 이미지 목록을 캐시에서 조회하고, 캐시에 없는 이미지만 loader로 한 번에 조회하여 캐싱합니다.
+   *
+   * @param imageRefs 조회할 이미지 ID 목록
+   * @param projectId 조회하는 사용자의 프로젝트 ID
+   * @param loader 캐시에 없는 이미지 ID 목록을 받아 이미지를 조회하는 함수
+   * @return 이미지 ID별 이미지
+   */
+  public Map<String, Image> getAll(Collection<String> imageRefs, String projectId,
+                                   Function<Set<String>, Map<String, Image>> loader) {
+    Map<String, Image> images = new HashMap<>();
+    Set<String> missing = new LinkedHashSet<>();
+
+    for (String imageRef : imageRefs) {
+      Image image = lookup(imageRef, projectId);
+      if (image != null) {
+        images.put(imageRef, image);
+      } else {
+        missing.add(imageRef);
+      }
+    }
+
+    hitCount.add(images.size());
+    missCount.add(missing.size());
+
+    if (!missing.isEmpty()) {
+      loader.apply(missing).forEach((imageRef, image) -> {
+        cache.put(new ImageKey(scopeOf(image, projectId), imageRef), image);
+        images.put(imageRef, image);
+      });
+    }
+
+    if (log.isDebugEnabled()) {
+      log.debug("이미지 캐시 조회: 요청 {}개, 미스 {}개 (누적 적중 {}, 누적 미스 {}, 적중률 {})",
+              imageRefs.size(), missing.size(), getHitCount(), getMissCount(), String.format("%.2f", getHitRate()));
+    }
+    return images;
+  }
+
+  /**
+   * 프로젝트 범위로 캐싱된 이미지를 모두 제거합니다. 스냅샷 생성 등으로 프로젝트 이미지가 바뀐 경우 호출합니다.
+   *
+   * @param projectId 프로젝트 ID
+   */
+  public void invalidateProject(String projectId) {
+    cache.asMap().keySet().removeIf(key -> key.scope().equals(projectId));
+    log.debug("프로젝트 [{}]의 이미지 캐시를 무효화했습니다.", projectId);
+  }
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * 누적 캐시 적중률을 반환합니다. 조회가 없었다면 0을 반환합니다.
+   *
+   * @return 0과 1 사이의 적중률
+   */
+  public double getHitRate() {
+    long hits = getHitCount();
+    long total = hits + getMissCount();
+    return total == 0 ? 0 : (double) hits / total;
+  }
+
+  private Image lookup(String imageRef, String projectId) {
+    Image image = cache.getIfPresent(new ImageKey(PUBLIC_SCOPE, imageRef));
+    if (image == null) {
+      image = cache.getIfPresent(new ImageKey(projectId, imageRef));
+    }
+    return image;
+  }
+
+  private String scopeOf(Image image, String projectId) {
+    return image.getVisibility() == Image.ImageVisibility.PUBLIC ? PUBLIC_SCOPE : projectId;
+  }
+
+  private record ImageKey(String scope, String imageId) {
+  }
+}
@@ -0,0 +1,438 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.ListFilter;
+import com.aoldacloud.console.global.OpenstackContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.model.identity.v3.Role;
+import org.openstack4j.model.identity.v3.Token;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.io.Serializable;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Nova, Neutron 리소스 목록을 프로젝트 단위로 공유하는 2단계 읽기 캐시입니다.
+ * 인스턴스 내부의 L1(Caffeine)에서 먼저 조회하고, 없으면 모든 인스턴스가 공유하는 L2(Redis)에서 조회합니다.
+ * 같은 프로젝트에서 같은 역할(role)로 발급된 토큰끼리만 캐시를 공유하여, 토큰 범위에 따른 조회 권한을 그대로 유지합니다.
+ * 리소스를 변경한 경우 Service에서 invalidate를 호출하면 L2 항목을 제거하고, Redis pub/sub으로 모든 인스턴스의 L1 항목을 제거합니다.
+ * Redis를 사용하지 않는 단일 인스턴스 배포(aoldacloud.session.store=memory)에서는 L2 없이 L1만 사용합니다.
+ * <p>
+ * 리소스별 TTL(soft TTL)이 지난 항목도 max-stale 이내(hard TTL)라면 즉시 반환하고, 백그라운드에서 새로 조회합니다(stale-while-revalidate).
+ * 같은 항목의 백그라운드 조회는 인스턴스마다 한 번만 실행되며, 응답에 사용된 데이터의 나이는 CacheAge에 기록됩니다.
+ * 캐시에 없는 항목을 동시에 조회하면 SingleFlight로 업스트림 호출을 하나로 합칩니다.
+ * <p>
+ * 무효화할 때마다 프로젝트와 리소스별 세대(epoch)를 올립니다. 무효화 전에 시작된 조회는 결과를 캐싱하지 않으며,
+ * L2에는 조회를 시작할 때 읽은 Redis 세대가 그대로인 경우에만 원자적으로 저장합니다.
+ * 따라서 리소스를 변경한 클라이언트는 변경 이전에 시작된 조회 결과를 캐시에서 받지 않습니다.
+ */
+@Slf4j
+@Component
+public class InventoryCache {
+
+  private static final String KEY_PREFIX = "aoldacloud:inventory:";
+  private static final Duration EPOCH_TTL = Duration.ofDays(1);
+
+  /**
+   * Redis 세대가 조회를 시작할 때와 같으면 항목을 저장하고 인덱스 집합에 키를 추가합니다.
+   * KEYS: 세대 키, 항목 키, 인덱스 키 / ARGV: 조회 시작 시 세대, 항목, TTL(밀리초)
+   */
+  private static final RedisScript<Long> WRITE_IF_CURRENT = new DefaultRedisScript<>(
+          "if (redis.call('GET', KEYS[1]) or '0') ~= ARGV[1] then return 0 end "
+                  + "redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) "
+                  + "redis.call('SADD', KEYS[3], KEYS[2]) "
+                  + "redis.call('PEXPIRE', KEYS[3], ARGV[3]) "
+                  + "return 1", Long.class);
+
+  private final Cache<InventoryKey, CachedInventory> cache;
+  private final Map<InventoryResource, Duration> ttls = new EnumMap<>(InventoryResource.class);
+  private final Duration maxStale;
+  private final Set<InventoryKey> refreshing = ConcurrentHashMap.newKeySet();
+  private final Map<EpochKey, AtomicLong> epochs = new ConcurrentHashMap<>();
+  private final RedisTemplate<String, Object> inventoryRedisTemplate;
+  private final CacheInvalidationBus invalidationBus;
+  private final InventoryMirror inventoryMirror;
+  private final SingleFlight singleFlight;
+
+  public InventoryCache(@Qualifier("inventoryRedisTemplate") ObjectProvider<RedisTemplate<String, Object>> inventoryRedisTemplate,
+                        CacheInvalidationBus invalidationBus,
+                        InventoryMirror inventoryMirror,
+                        SingleFlight singleFlight,
+                        @Value("${aoldacloud.cache.inventory.maximum-size:10000}") long maximumSize,
+                        @Value("${aoldacloud.cache.inventory.ttl.servers:10s}") Duration serversTtl,
+                        @Value("${aoldacloud.cache.inventory.ttl.ports:15s}") Duration portsTtl,
+                        @Value("${aoldacloud.cache.inventory.ttl.subnets:60s}") Duration subnetsTtl,
+                        @Value("${aoldacloud.cache.inventory.ttl.routers:30s}") Duration routersTtl,
+                        @Value("${aoldacloud.cache.inventory.ttl.floating-ips:15s}") Duration floatingIpsTtl,
+                        @Value("${aoldacloud.cache.inventory.max-stale:60s}") Duration maxStale) {
+    this.inventoryRedisTemplate = inventoryRedisTemplate.getIfAvailable();
+    this.invalidationBus = invalidationBus;
+    this.inventoryMirror = inventoryMirror;
+    this.singleFlight = singleFlight;
+    this.maxStale = maxStale;
+
+    ttls.put(InventoryResource.SERVERS, serversTtl);
+    ttls.put(InventoryResource.PORTS, portsTtl);
+    ttls.put(InventoryResource.SUBNETS, subnetsTtl);
+    ttls.put(InventoryResource.ROUTERS, routersTtl);
+    ttls.put(InventoryResource.FLOATING_IPS, floatingIpsTtl);
+
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new HardTtlExpiry())
+            .build();
+
+    invalidationBus.subscribe(InventoryInvalidation.CHANNEL, this::onInvalidation);
+  }
+
+  /**
+   * 현재 요청의 프로젝트와 토큰 범위로 캐싱된 목록을 반환하고, 없으면 loader로 조회하여 캐싱합니다.
+   * soft TTL이 지난 항목은 그대로 반환하면서 백그라운드에서 loader를 실행하여 갱신합니다.
+   *
+   * @param resource 리소스 종류
+   * @param query 조회 조건 (필터, 페이지 등 결과에 영향을 주는 값, equals/hashCode 구현 필요)
+   * @param loader 업스트림에서 목록을 조회하는 함수 (결과는 직렬화 가능해야 함)
+   * @return 캐싱되었거나 새로 조회한 목록
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T get(InventoryResource resource, Object query, Supplier<T> loader) {
+    InventoryKey key = keyOf(resource, query);
+    CachedInventory cached = cache.getIfPresent(key);
+    if (cached == null) {
+      long epoch = localEpochOf(key);
+      cached = readRemote(key);
+      if (cached != null && cached.age().compareTo(hardTtlOf(resource)) < 0) {
+        log.debug("인벤토리 L2 캐시 적중: {} {}", resource, key.projectId());
+        putLocal(key, cached, epoch);
+      } else {
+        cached = null;
+      }
+    }
+
+    if (cached != null) {
+      Duration age = cached.age();
+      if (age.compareTo(ttls.get(resource)) > 0) {
+        refreshAsync(key, loader);
+      }
+      CacheAge.record(age);
+      return (T) cached.value();
+    }
+
+    T value = load(key, loader);
+    CacheAge.record(Duration.ZERO);
+    return value;
+  }
+
+  /**
+   * 현재 요청 프로젝트의 지정한 리소스 목록을 모든 토큰 범위와 조회 조건에 대해 제거합니다.
+   *
+   * @param resources 무효화할 리소스 종류
+   */
+  public void invalidate(InventoryResource... resources) {
+    invalidate(currentProjectId(), resources);
+  }
+
+  /**
+   * 지정한 프로젝트의 리소스 목록을 모든 토큰 범위와 조회 조건에 대해 제거하고, 다른 인스턴스에 무효화 이벤트를 발행합니다.
+   * 이 인스턴스의 InventoryMirror도 함께 무효화합니다.
+   *
+   * @param projectId 프로젝트 ID
+   * @param resources 무효화할 리소스 종류
+   */
+  public void invalidate(String projectId, InventoryResource... resources) {
+    InventoryInvalidation invalidation = new InventoryInvalidation(projectId, EnumSet.copyOf(Arrays.asList(resources)));
+    evictLocal(projectId, invalidation.resources());
+    inventoryMirror.invalidateLocal(invalidation);
+    evictRemote(projectId, invalidation.resources());
+    invalidationBus.publish(InventoryInvalidation.CHANNEL, invalidation.toPayload());
+  }
+
+  /**
+   * 항목을 백그라운드에서 다시 조회합니다. 이미 같은 항목을 조회 중이면 실행하지 않습니다.
+   * loader는 요청 스레드 밖에서 실행되므로, 현재 요청의 OpenstackContext를 바인딩하여 실행합니다.
+   */
+  private <T> void refreshAsync(InventoryKey key, Supplier<T> loader) {
+    if (!refreshing.add(key)) {
+      return;
+    }
+
+    OpenstackContext context = OpenstackContext.current();
+    Thread.startVirtualThread(() -> {
+      try {
+        OpenstackContext.callWith(context, () -> load(key, loader));
+        log.debug("인벤토리 캐시 백그라운드 갱신 완료: {} {}", key.resource(), key.projectId());
+      } catch (RuntimeException ex) {
+        log.warn("인벤토리 캐시 백그라운드 갱신 실패: {} {} {}", key.resource(), key.projectId(), ex.toString());
+      } finally {
+        refreshing.remove(key);
+      }
+    });
+  }
+
+  /**
+   * loader로 조회하여 캐싱합니다. 같은 세대에서 같은 항목을 조회 중인 요청이 있으면 업스트림을 다시 호출하지 않고 그 결과를 함께 사용합니다.
+   * 무효화 이후의 요청은 무효화 이전에 시작된 조회에 합류하지 않습니다.
+   * 조회 시각은 조회를 시작한 시각으로 기록하고, 조회 중에 세대가 바뀌었으면 결과를 캐싱하지 않습니다.
+   */
+  private <T> T load(InventoryKey key, Supplier<T> loader) {
+    long epoch = localEpochOf(key);
+    return singleFlight.execute(new LoadKey(key, epoch), () -> {
+      String remoteEpoch = readRemoteEpoch(key);
+      long startedAt = System.currentTimeMillis();
+      T value = loader.get();
+      if (value != null) {
+        CachedInventory entry = new CachedInventory(value, startedAt);
+        if (putLocal(key, entry, epoch)) {
+          writeRemote(key, entry, remoteEpoch);
+        }
+      }
+      return value;
+    });
+  }
+
+  /**
+   * 세대가 epoch와 같은 경우에만 L1에 저장합니다. 저장한 직후 세대가 바뀌었으면 저장한 항목을 다시 제거합니다.
+   * 무효화는 세대를 올린 뒤 항목을 제거하므로, 어느 순서로 실행되어도 무효화 이전의 항목이 남지 않습니다.
+   *
+   * @return 저장되었으면 true
+   */
+  private boolean putLocal(InventoryKey key, CachedInventory entry, long epoch) {
+    if (localEpochOf(key) != epoch) {
+      log.debug("조회 중 무효화되어 인벤토리 캐시에 저장하지 않습니다: {} {}", key.resource(), key.projectId());
+      return false;
+    }
+    cache.put(key, entry);
+    if (localEpochOf(key) != epoch) {
+      cache.asMap().remove(key, entry);
+      return false;
+    }
+    return true;
+  }
+
+  private long localEpochOf(InventoryKey key) {
+    return epochs.computeIfAbsent(new EpochKey(key.projectId(), key.resource()), ignored -> new AtomicLong()).get();
+  }
+
+  private Duration hardTtlOf(InventoryResource resource) {
+    return ttls.get(resource).plus(maxStale);
+  }
+
+  private void onInvalidation(String payload) {
+    InventoryInvalidation invalidation = InventoryInvalidation.parse(payload);
+    evictLocal(invalidation.projectId(), invalidation.resources());
+  }
+
+  private void evictLocal(String projectId, Set<InventoryResource> targets) {
+    targets.forEach(resource -> epochs.computeIfAbsent(new EpochKey(projectId, resource), ignored -> new AtomicLong()).incrementAndGet());
+    cache.asMap().keySet().removeIf(key -> key.projectId().equals(projectId) && targets.contains(key.resource()));
+    log.debug("프로젝트 [{}]의 인벤토리 L1 캐시를 무효화했습니다: {}", projectId, targets);
+  }
+
+  private CachedInventory readRemote(InventoryKey key) {
+    if (inventoryRedisTemplate == null) {
+      return null;
+    }
+    try {
+      return (CachedInventory) inventoryRedisTemplate.opsForValue().get(remoteKeyOf(key));
+    } catch (RuntimeException ex) {
+      log.warn("인벤토리 L2 캐시 조회 실패: {}", ex.toString());
+      return null;
+    }
+  }
+
+  /**
+   * 조회를 시작할 때의 Redis 세대를 읽습니다. Redis를 사용하지 않거나 읽지 못하면 null을 반환하며, 이 경우 L2에 저장하지 않습니다.
+   */
+  private String readRemoteEpoch(InventoryKey key) {
+    if (inventoryRedisTemplate == null) {
+      return null;
+    }
+    byte[] epochKey = epochKeyOf(key.projectId(), key.resource()).getBytes(StandardCharsets.UTF_8);
+    try {
+      byte[] epoch = inventoryRedisTemplate.execute((RedisCallback<byte[]>) connection -> connection.stringCommands().get(epochKey));
+      return epoch == null ? "0" : new String(epoch, StandardCharsets.UTF_8);
+    } catch (RuntimeException ex) {
+      log.warn("인벤토리 L2 캐시 세대 조회 실패: {}", ex.toString());
+      return null;
+    }
+  }
+
+  /**
+   * Redis 세대가 조회를 시작할 때와 같은 경우에만 L2 항목을 저장하고, 무효화할 때 찾을 수 있도록 프로젝트와 리소스별 인덱스 집합에 키를 추가합니다.
+   */
+  @SuppressWarnings("unchecked")
+  private void writeRemote(InventoryKey key, CachedInventory value, String remoteEpoch) {
+    if (inventoryRedisTemplate == null || remoteEpoch == null) {
+      return;
+    }
+    Duration ttl = hardTtlOf(key.resource());
+    String remoteKey = remoteKeyOf(key);
+    String indexKey = indexKeyOf(key.projectId(), key.resource());
+    try {
+      byte[] serialized = ((RedisSerializer<Object>) inventoryRedisTemplate.getValueSerializer()).serialize(value);
+      Long written = inventoryRedisTemplate.execute(WRITE_IF_CURRENT, RedisSerializer.byteArray(), new GenericToStringSerializer<>(Long.class),
+              List.of(epochKeyOf(key.projectId(), key.resource()), remoteKey, indexKey),
+              remoteEpoch.getBytes(StandardCharsets.UTF_8), serialized, String.valueOf(ttl.toMillis()).getBytes(StandardCharsets.UTF_8));
+      if (written == null || written == 0) {
+        log.debug("조회 중 무효화되어 인벤토리 L2 캐시에 저장하지 않습니다: {} {}", key.resource(), key.projectId());
+      }
+    } catch (RuntimeException ex) {
+      log.warn("인벤토리 L2 캐시 저장 실패: {}", ex.toString());
+    }
+  }
+
+  private void evictRemote(String projectId, Set<InventoryResource> targets) {
+    if (inventoryRedisTemplate == null) {
+      return;
+    }
+    try {
+      for (InventoryResource resource : targets) {
+        String epochKey = epochKeyOf(projectId, resource);
+        inventoryRedisTemplate.opsForValue().increment(epochKey);
+        inventoryRedisTemplate.expire(epochKey, EPOCH_TTL);
+        String indexKey = indexKeyOf(projectId, resource);
+        Set<Object> remoteKeys = inventoryRedisTemplate.opsForSet().members(indexKey);
+        if (remoteKeys != null && !remoteKeys.isEmpty()) {
+          inventoryRedisTemplate.delete(remoteKeys.stream().map(String::valueOf).collect(Collectors.toList()));
+        }
+        inventoryRedisTemplate.delete(indexKey);
+      }
+    } catch (RuntimeException ex) {
+      log.warn("인벤토리 L2 캐시 무효화 실패: {}", ex.toString());
+    }
+  }
+
+  private InventoryKey keyOf(InventoryResource resource, Object query) {
+    Token token = OpenstackContext.current().getToken();
+    return new InventoryKey(resource, token.getProject().getId(), scopeOf(token), query);
+  }
+
+  private String currentProjectId() {
+    return OpenstackContext.current().getToken().getProject().getId();
+  }
+
+  /**
+   * L2 키는 토큰 범위와 조회 조건의 정규화된 문자열을 SHA-256으로 요약하여 만듭니다.
+   * 조회 조건의 toString은 값에 구분자가 포함되면 서로 다른 조건이 같은 문자열이 될 수 있으므로 사용하지 않습니다.
+   */
+  private String remoteKeyOf(InventoryKey key) {
+    String canonical = URLEncoder.encode(key.scope(), StandardCharsets.UTF_8) + ":" + canonicalOf(key.query());
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return indexKeyOf(key.projectId(), key.resource()) + ":" + HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", ex);
+    }
+  }
+
+  /**
+   * 조회 조건을 정규화된 문자열로 변환합니다. 목록은 각 원소를 변환한 뒤 다시 URL 인코딩하여 구분자와 섞이지 않도록 합니다.
+   */
+  private static String canonicalOf(Object query) {
+    if (query == null) {
+      return "~";
+    }
+    if (query instanceof ListFilter filter) {
+      return filter.toCacheKey();
+    }
+    if (query instanceof List<?> values) {
+      return values.stream()
+              .map(value -> URLEncoder.encode(canonicalOf(value), StandardCharsets.UTF_8))
+              .collect(Collectors.joining(","));
+    }
+    return URLEncoder.encode(String.valueOf(query), StandardCharsets.UTF_8);
+  }
+
+  private String indexKeyOf(String projectId, InventoryResource resource) {
+    return KEY_PREFIX + projectId + ":" + resource;
+  }
+
+  private String epochKeyOf(String projectId, InventoryResource resource) {
+    return indexKeyOf(projectId, resource) + ":epoch";
+  }
+
+  /**
+   * 토큰의 역할 목록으로 조회 권한 범위를 식별합니다. 역할이 같으면 같은 프로젝트의 목록을 볼 수 있습니다.
+   */
+  static String scopeOf(Token token) {
+    List<? extends Role> roles = token.getRoles();
+    if (roles == null) {
+      return "";
+    }
+    return roles.stream()
+            .map(Role::getName)
+            .filter(Objects::nonNull)
+            .sorted()
+            .collect(Collectors.joining(","));
+  }
+
+  private record InventoryKey(InventoryResource resource, String projectId, String scope, Object query) {
+  }
+
+  private record EpochKey(String projectId, InventoryResource resource) {
+  }
+
+  /**
+   * SingleFlight 키입니다. 세대가 다르면 같은 항목이라도 조회를 합치지 않습니다.
+   */
+  private record LoadKey(InventoryKey key, long epoch) {
+  }
+
+  /**
+   * 캐싱된 목록과 업스트림에서 조회한 시각입니다. L2에서 가져온 항목도 최초 조회 시각을 유지합니다.
+   */
+  private record CachedInventory(Object value, long loadedAt) implements Serializable {
+
+    Duration age() {
+      return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - loadedAt));
+    }
+  }
+
+  /**
+   * L1 항목은 최초 조회 시각으로부터 hard TTL이 지나면 만료됩니다.
+   */
+  private class HardTtlExpiry implements Expiry<InventoryKey, CachedInventory> {
+
+    @Override
+    public long expireAfterCreate(InventoryKey key, CachedInventory value, long currentTime) {
+      return Math.max(0, hardTtlOf(key.resource()).minus(value.age()).toNanos());
+    }
+
+    @Override
+    public long expireAfterUpdate(InventoryKey key, CachedInventory value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(InventoryKey key, CachedInventory value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -0,0 +1,36 @@
+package com.aoldacloud.console.global.cache;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 프로젝트의 리소스 목록이 변경되었음을 알리는 무효화 이벤트입니다.
+ * CacheInvalidationBus의 inventory 채널로 전달되며, InventoryCache와 InventoryMirror가 함께 구독합니다.
+ *
+ * @param projectId 프로젝트 ID
+ * @param resources 변경된 리소스 종류
+ */
+public record InventoryInvalidation(String projectId, Set<InventoryResource> resources) {
+
+  public static final String CHANNEL = "inventory";
+
+  /**
+   * "프로젝트 ID:리소스1,리소스2" 형식의 이벤트 내용을 해석합니다.
+   *
+   * @param payload 이벤트 내용
+   * @return InventoryInvalidation
+   */
+  public static InventoryInvalidation parse(String payload) {
+    int separator = payload.indexOf(':');
+    Set<InventoryResource> resources = Arrays.stream(payload.substring(separator + 1).split(","))
+            .map(InventoryResource::valueOf)
+            .collect(Collectors.toCollection(() -> EnumSet.noneOf(InventoryResource.class)));
+    return new InventoryInvalidation(payload.substring(0, separator), resources);
+  }
+
+  public String toPayload() {
+    return projectId + ":" + resources.stream().map(Enum::name).collect(Collectors.joining(","));
+  }
+}
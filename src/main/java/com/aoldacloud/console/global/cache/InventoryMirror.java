@@ -0,0 +1,287 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.OpenstackContext;
+import com.aoldacloud.console.global.ParallelTasks;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.model.identity.v3.Token;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * 최근에 사용된 프로젝트의 리소스 목록을 인스턴스 메모리에 유지하는 미러입니다. (aoldacloud.cache.mirror.enabled=true일 때만 동작)
+ * 목록 조회 요청이 들어온 프로젝트를 활성 프로젝트로 등록하고, 주기적으로 가장 최근 요청의 토큰으로 각 리소스 목록을 동기화합니다.
+ * Repository는 미러에 최신 목록이 있으면 업스트림을 호출하지 않고 미러의 목록에 필터와 정렬 조건을 적용합니다.
+ * <p>
+ * 같은 프로젝트에서 같은 역할로 발급된 토큰끼리만 미러를 공유하며, idle-timeout 동안 조회되지 않은 프로젝트의 미러는 제거됩니다.
+ * 리소스가 변경되어 무효화 이벤트를 받으면, 그 이후에 시작된 동기화가 끝날 때까지 해당 리소스의 미러를 사용하지 않습니다.
+ * 로그아웃하거나 프로젝트를 변경한 세션의 토큰은 모든 인스턴스의 미러에서 해제되며, 다음 조회 요청의 토큰으로 교체될 때까지 동기화하지 않습니다.
+ */
+@Slf4j
+@Component
+public class InventoryMirror {
+
+  /**
+   * 증분 동기화 기준 시각을 이만큼 앞당겨, 업스트림과의 시계 차이로 변경 사항을 놓치지 않도록 합니다.
+   */
+  private static final Duration CLOCK_SKEW = Duration.ofSeconds(5);
+
+  private static final String RELEASE_CHANNEL = "inventory-mirror-release";
+
+  private final Map<MirrorKey, ProjectMirror> mirrors = new ConcurrentHashMap<>();
+  private final Map<InventoryResource, Loader<Object>> loaders = new EnumMap<>(InventoryResource.class);
+  private final boolean enabled;
+  private final Duration idleTimeout;
+  private final Duration maxAge;
+  private final Duration fullSyncInterval;
+  private final int maxConcurrency;
+  private final Duration syncTimeout;
+  private final CacheInvalidationBus invalidationBus;
+
+  public InventoryMirror(CacheInvalidationBus invalidationBus,
+                         @Value("${aoldacloud.cache.mirror.enabled:false}") boolean enabled,
+                         @Value("${aoldacloud.cache.mirror.idle-timeout:5m}") Duration idleTimeout,
+                         @Value("${aoldacloud.cache.mirror.max-age:30s}") Duration maxAge,
+                         @Value("${aoldacloud.cache.mirror.full-sync-interval:5m}") Duration fullSyncInterval,
+                         @Value("${aoldacloud.cache.mirror.max-concurrency:8}") int maxConcurrency,
+                         @Value("${aoldacloud.cache.mirror.sync-timeout:30s}") Duration syncTimeout) {
+    this.enabled = enabled;
+    this.idleTimeout = idleTimeout;
+    this.maxAge = maxAge;
+    this.fullSyncInterval = fullSyncInterval;
+    this.maxConcurrency = maxConcurrency;
+    this.syncTimeout = syncTimeout;
+    this.invalidationBus = invalidationBus;
+
+    if (enabled) {
+      invalidationBus.subscribe(InventoryInvalidation.CHANNEL, this::onInvalidation);
+      invalidationBus.subscribe(RELEASE_CHANNEL, this::onRelease);
+    }
+  }
+
+  /**
+   * 리소스 목록을 동기화하는 함수입니다.
+   */
+  @FunctionalInterface
+  public interface Loader<T> {
+
+    /**
+     * 리소스 목록을 조회합니다. 현재 목록이 없거나 changesSince가 null이면 전체 목록을 조회하고,
+     * 그렇지 않으면 업스트림이 지원하는 경우 changesSince 이후의 변경 사항만 조회하여 현재 목록에 반영할 수 있습니다.
+     *
+     * @param current 현재 미러의 목록 (전체 동기화이면 null)
+     * @param changesSince 변경 사항을 조회할 기준 시각 (전체 동기화이면 null)
+     * @return 새 목록
+     */
+    List<T> load(List<T> current, Instant changesSince);
+  }
+
+  /**
+   * 리소스 목록의 동기화 함수를 등록합니다. Repository가 생성될 때 호출합니다.
+   *
+   * @param resource 리소스 종류
+   * @param loader 동기화 함수 (동기화하는 프로젝트의 OpenstackContext가 바인딩된 상태로 실행됨)
+   */
+  @SuppressWarnings("unchecked")
+  public <T> void register(InventoryResource resource, Loader<T> loader) {
+    loaders.put(resource, (Loader<Object>) loader);
+  }
+
+  /**
+   * 현재 요청의 프로젝트를 활성 프로젝트로 표시하고, 미러에 최신 목록이 있으면 반환합니다.
+   * 반환한 목록의 나이는 CacheAge에 기록됩니다.
+   *
+   * @param resource 리소스 종류
+   * @return 미러의 전체 목록 (미러가 비활성화되었거나 아직 동기화되지 않았으면 빈 값)
+   */
+  @SuppressWarnings("unchecked")
+  public <T> Optional<List<T>> lookup(InventoryResource resource) {
+    if (!enabled || !loaders.containsKey(resource)) {
+      return Optional.empty();
+    }
+
+    OpenstackContext context = OpenstackContext.current();
+    Token token = context.getToken();
+    ProjectMirror mirror = mirrors.computeIfAbsent(
+            new MirrorKey(token.getProject().getId(), InventoryCache.scopeOf(token)), key -> new ProjectMirror());
+    mirror.context = context;
+    mirror.lastAccessedAt = System.currentTimeMillis();
+
+    Snapshot snapshot = mirror.snapshots.get(resource);
+    if (snapshot == null || snapshot.syncStartedAt() <= mirror.invalidatedAt.getOrDefault(resource, 0L)) {
+      return Optional.empty();
+    }
+    Duration age = snapshot.age();
+    if (age.compareTo(maxAge) > 0) {
+      return Optional.empty();
+    }
+    CacheAge.record(age);
+    return Optional.of((List<T>) snapshot.items());
+  }
+
+  /**
+   * 활성 프로젝트의 미러를 동기화하고, idle-timeout 동안 조회되지 않은 프로젝트의 미러를 제거합니다.
+   * 동기화 주기(aoldacloud.cache.mirror.interval)는 ISO-8601 형식(예: PT10S)으로 지정합니다.
+   */
+  @Scheduled(fixedDelayString = "${aoldacloud.cache.mirror.interval:PT10S}")
+  public void sync() {
+    if (!enabled || mirrors.isEmpty()) {
+      return;
+    }
+
+    long now = System.currentTimeMillis();
+    mirrors.entrySet().removeIf(entry -> {
+      boolean idle = now - entry.getValue().lastAccessedAt > idleTimeout.toMillis();
+      if (idle) {
+        log.info("프로젝트 [{}]의 인벤토리 미러를 제거했습니다. (유휴 상태)", entry.getKey().projectId());
+      }
+      return idle;
+    });
+
+    try (ParallelTasks tasks = ParallelTasks.open(maxConcurrency, syncTimeout)) {
+      List<Future<Void>> futures = new ArrayList<>();
+      List<MirrorKey> keys = new ArrayList<>();
+      mirrors.forEach((key, mirror) -> {
+        keys.add(key);
+        futures.add(tasks.fork(() -> {
+          syncProject(key, mirror);
+          return null;
+        }));
+      });
+      for (int i = 0; i < futures.size(); i++) {
+        tasks.join(futures.get(i), null, "프로젝트 [" + keys.get(i).projectId() + "] 인벤토리 미러 동기화");
+      }
+    }
+  }
+
+  /**
+   * 세션의 토큰을 사용하는 미러가 있으면 모든 인스턴스에서 토큰을 해제합니다. 로그아웃하거나 프로젝트를 변경할 때 호출합니다.
+   * 이벤트에는 토큰 ID 대신 SHA-256 요약을 담습니다.
+   *
+   * @param tokenId 세션의 Keystone 토큰 ID
+   */
+  public void release(String tokenId) {
+    if (!enabled || tokenId == null) {
+      return;
+    }
+    invalidationBus.publish(RELEASE_CHANNEL, digestOf(tokenId));
+  }
+
+  private void onRelease(String tokenDigest) {
+    mirrors.forEach((key, mirror) -> {
+      OpenstackContext context = mirror.context;
+      if (context != null && tokenDigest.equals(digestOf(sessionTokenIdOf(context)))) {
+        mirror.context = null;
+        log.debug("프로젝트 [{}]의 인벤토리 미러에서 세션 토큰을 해제했습니다.", key.projectId());
+      }
+    });
+  }
+
+  private static String sessionTokenIdOf(OpenstackContext context) {
+    return context.getUserDetails() == null ? null : context.getUserDetails().getCloudSession().getToken().getId();
+  }
+
+  private static String digestOf(String tokenId) {
+    if (tokenId == null) {
+      return "";
+    }
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(tokenId.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", ex);
+    }
+  }
+
+  private void syncProject(MirrorKey key, ProjectMirror mirror) {
+    OpenstackContext context = mirror.context;
+    if (context == null) {
+      log.debug("프로젝트 [{}]의 인벤토리 미러 동기화를 건너뜁니다. (해제된 토큰)", key.projectId());
+      return;
+    }
+    Token token = context.getToken();
+    if (token.getExpires() != null && token.getExpires().toInstant().isBefore(Instant.now())) {
+      log.debug("프로젝트 [{}]의 인벤토리 미러 동기화를 건너뜁니다. (토큰 만료)", key.projectId());
+      return;
+    }
+
+    OpenstackContext.callWith(context, () -> {
+      loaders.forEach((resource, loader) -> syncResource(key, mirror, resource, loader));
+      return null;
+    });
+  }
+
+  private void syncResource(MirrorKey key, ProjectMirror mirror, InventoryResource resource, Loader<Object> loader) {
+    long startedAt = System.currentTimeMillis();
+    Snapshot previous = mirror.snapshots.get(resource);
+    boolean full = previous == null || startedAt - previous.fullSyncStartedAt() > fullSyncInterval.toMillis();
+    try {
+      List<Object> items = full
+              ? loader.load(null, null)
+              : loader.load(previous.items(), Instant.ofEpochMilli(previous.syncStartedAt()).minus(CLOCK_SKEW));
+      long fullSyncStartedAt = full ? startedAt : previous.fullSyncStartedAt();
+      mirror.snapshots.put(resource, new Snapshot(List.copyOf(items), startedAt, fullSyncStartedAt));
+      log.debug("인벤토리 미러 동기화 완료: {} {} ({}개, {})", resource, key.projectId(), items.size(), full ? "전체" : "증분");
+    } catch (RuntimeException ex) {
+      log.warn("인벤토리 미러 동기화 실패: {} {} {}", resource, key.projectId(), ex.toString());
+    }
+  }
+
+  private void onInvalidation(String payload) {
+    invalidateLocal(InventoryInvalidation.parse(payload));
+  }
+
+  /**
+   * 이 인스턴스에서 프로젝트의 리소스 미러를 사용하지 않도록 표시합니다.
+   * 무효화 이벤트는 비동기로 전달되므로, 변경 직후의 조회에도 반영되도록 InventoryCache가 변경한 인스턴스에서 직접 호출합니다.
+   */
+  void invalidateLocal(InventoryInvalidation invalidation) {
+    if (!enabled) {
+      return;
+    }
+    long now = System.currentTimeMillis();
+    mirrors.forEach((key, mirror) -> {
+      if (key.projectId().equals(invalidation.projectId())) {
+        invalidation.resources().forEach(resource -> mirror.invalidatedAt.put(resource, now));
+      }
+    });
+  }
+
+  private record MirrorKey(String projectId, String scope) {
+  }
+
+  /**
+   * 동기화한 목록과 동기화를 시작한 시각입니다. 동기화 중에 발생한 변경 사항이 누락되지 않도록 시작 시각을 기준으로 합니다.
+   */
+  private record Snapshot(List<Object> items, long syncStartedAt, long fullSyncStartedAt) {
+
+    Duration age() {
+      return Duration.ofMillis(Math.max(0, System.currentTimeMillis() - syncStartedAt));
+    }
+  }
+
+  private static final class ProjectMirror {
+
+    private final Map<InventoryResource, Snapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<InventoryResource, Long> invalidatedAt = new ConcurrentHashMap<>();
+    /**
+     * 동기화에 사용할 가장 최근 조회 요청의 컨텍스트입니다. 세션이 해제되면 null입니다.
+     */
+    private volatile OpenstackContext context;
+    private volatile long lastAccessedAt;
+  }
+}
@@ -0,0 +1,12 @@
+package com.aoldacloud.console.global.cache;
+
+/**
+ * InventoryCache에 캐싱되는 프로젝트 단위 리소스 목록의 종류입니다.
+ */
+public enum InventoryResource {
+  SERVERS,
+  PORTS,
+  SUBNETS,
+  ROUTERS,
+  FLOATING_IPS
+}
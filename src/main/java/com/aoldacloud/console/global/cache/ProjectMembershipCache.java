@@ -0,0 +1,148 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.OpenstackContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.model.identity.v3.Project;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별로 소속 프로젝트 목록을 캐싱하는 클래스입니다.
+ * 로그인할 때 백그라운드에서 미리 조회하고, refresh-after가 지난 목록은 그대로 반환하면서 백그라운드에서 다시 조회합니다.
+ * 프로젝트를 변경하거나 로그아웃하면 모든 인스턴스에서 해당 사용자의 목록을 제거합니다.
+ * 무효화할 때마다 사용자별 세대(epoch)를 올리며, 무효화 전에 시작된 조회는 결과를 캐싱하지 않습니다.
+ */
+@Slf4j
+@Component
+public class ProjectMembershipCache {
+
+  private static final String CACHE_NAME = "project-membership";
+
+  private final Cache<String, CachedProjects> cache;
+  private final Duration refreshAfter;
+  private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+  private final Map<String, AtomicLong> epochs = new ConcurrentHashMap<>();
+  private final CacheInvalidationBus invalidationBus;
+
+  public ProjectMembershipCache(CacheInvalidationBus invalidationBus,
+                                @Value("${aoldacloud.cache.user-projects.maximum-size:5000}") long maximumSize,
+                                @Value("${aoldacloud.cache.user-projects.ttl:10m}") Duration ttl,
+                                @Value("${aoldacloud.cache.user-projects.refresh-after:60s}") Duration refreshAfter) {
+    this.invalidationBus = invalidationBus;
+    this.refreshAfter = refreshAfter;
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+
+    invalidationBus.subscribe(CACHE_NAME, this::evict);
+  }
+
+  /**
+   * 캐싱된 프로젝트 목록을 반환하고, 없으면 loader로 조회하여 캐싱합니다.
+   * refresh-after가 지난 목록은 그대로 반환하면서 현재 요청의 OpenstackContext로 백그라운드에서 다시 조회합니다.
+   *
+   * @param userId 사용자 ID
+   * @param loader 사용자의 프로젝트 목록을 조회하는 함수
+   * @return 프로젝트 목록
+   */
+  public List<? extends Project> get(String userId, Supplier<List<? extends Project>> loader) {
+    CachedProjects cached = cache.getIfPresent(userId);
+    if (cached == null) {
+      return load(userId, loader, epochOf(userId));
+    }
+
+    Duration age = Duration.ofMillis(Math.max(0, System.currentTimeMillis() - cached.loadedAt()));
+    if (age.compareTo(refreshAfter) > 0) {
+      OpenstackContext context = OpenstackContext.current();
+      refreshAsync(userId, () -> OpenstackContext.callWith(context, loader));
+    }
+    CacheAge.record(age);
+    return cached.projects();
+  }
+
+  /**
+   * 로그인 직후 프로젝트 목록을 백그라운드에서 미리 조회합니다. loader는 요청 스레드 밖에서 실행됩니다.
+   *
+   * @param userId 사용자 ID
+   * @param loader 사용자의 프로젝트 목록을 조회하는 함수
+   */
+  public void prefetch(String userId, Supplier<List<? extends Project>> loader) {
+    refreshAsync(userId, loader);
+  }
+
+  /**
+   * 사용자의 프로젝트 목록을 이 인스턴스에서 즉시 제거하고, 다른 인스턴스에 무효화 이벤트를 발행합니다.
+   *
+   * @param userId 사용자 ID
+   */
+  public void invalidate(String userId) {
+    evict(userId);
+    invalidationBus.publish(CACHE_NAME, userId);
+  }
+
+  /**
+   * 세대를 올린 뒤 항목을 제거합니다. 이미 시작된 조회는 load에서 세대가 바뀐 것을 확인하고 결과를 저장하지 않습니다.
+   */
+  private void evict(String userId) {
+    epochs.computeIfAbsent(userId, ignored -> new AtomicLong()).incrementAndGet();
+    cache.invalidate(userId);
+  }
+
+  private long epochOf(String userId) {
+    return epochs.computeIfAbsent(userId, ignored -> new AtomicLong()).get();
+  }
+
+  /**
+   * 목록을 조회하고, 세대가 조회를 시작할 때의 epoch와 같은 경우에만 캐싱합니다.
+   * 저장한 직후 세대가 바뀌었으면 저장한 항목을 다시 제거하므로, 무효화 이전에 조회한 목록이 남지 않습니다.
+   */
+  private List<? extends Project> load(String userId, Supplier<List<? extends Project>> loader, long epoch) {
+    List<? extends Project> projects = List.copyOf(loader.get());
+    if (epochOf(userId) != epoch) {
+      log.debug("조회 중 무효화되어 사용자 [{}]의 프로젝트 목록을 캐싱하지 않습니다.", userId);
+      return projects;
+    }
+
+    CachedProjects entry = new CachedProjects(projects, System.currentTimeMillis());
+    cache.put(userId, entry);
+    if (epochOf(userId) != epoch) {
+      cache.asMap().remove(userId, entry);
+    }
+    return projects;
+  }
+
+  /**
+   * 목록을 백그라운드에서 다시 조회합니다. 이미 같은 사용자의 목록을 조회 중이면 실행하지 않습니다.
+   */
+  private void refreshAsync(String userId, Supplier<List<? extends Project>> loader) {
+    if (!refreshing.add(userId)) {
+      return;
+    }
+
+    long epoch = epochOf(userId);
+    Thread.startVirtualThread(() -> {
+      try {
+        load(userId, loader, epoch);
+        log.debug("사용자 [{}]의 프로젝트 목록을 갱신했습니다.", userId);
+      } catch (RuntimeException ex) {
+        log.warn("사용자 [{}]의 프로젝트 목록 갱신 실패: {}", userId, ex.toString());
+      } finally {
+        refreshing.remove(userId);
+      }
+    });
+  }
+
+  private record CachedProjects(List<? extends Project> projects, long loadedAt) {
+  }
+}
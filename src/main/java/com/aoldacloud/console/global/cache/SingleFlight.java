@@ -0,0 +1,83 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.OpenstackContext;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.model.identity.v3.Token;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동시에 들어온 같은 업스트림 조회를 하나로 합치는 클래스입니다(single-flight).
+ * 같은 키의 조회가 진행 중이면 새로 호출하지 않고 먼저 시작된 호출의 결과(또는 예외)를 함께 받습니다.
+ * 호출이 끝나면 키를 제거하므로 결과를 보관하지 않으며, 캐싱은 InventoryCache 등에서 담당합니다.
+ */
+@Slf4j
+@Component
+public class SingleFlight {
+
+  private final Map<Object, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+  /**
+   * 현재 요청의 프로젝트와 토큰 범위에서 같은 조회가 진행 중이면 그 결과를 기다리고, 없으면 loader를 실행합니다.
+   *
+   * @param operation 조회 종류 (예: nova.limits)
+   * @param args 조회 인자 (equals/hashCode 구현 필요)
+   * @param loader 업스트림을 호출하는 함수
+   * @return 조회 결과
+   */
+  public <T> T execute(String operation, Object args, Supplier<T> loader) {
+    Token token = OpenstackContext.current().getToken();
+    return execute(new FlightKey(operation, token.getProject().getId(), InventoryCache.scopeOf(token), args), loader);
+  }
+
+  /**
+   * 같은 키의 조회가 진행 중이면 그 결과를 기다리고, 없으면 loader를 실행합니다.
+   * 키에는 조회 권한 범위(프로젝트, 역할)가 포함되어 있어야 합니다.
+   *
+   * @param key 조회 키
+   * @param loader 업스트림을 호출하는 함수
+   * @return 조회 결과
+   */
+  @SuppressWarnings("unchecked")
+  public <T> T execute(Object key, Supplier<T> loader) {
+    CompletableFuture<Object> flight = new CompletableFuture<>();
+    CompletableFuture<Object> leader = inFlight.putIfAbsent(key, flight);
+    if (leader != null) {
+      log.debug("진행 중인 업스트림 조회에 합류합니다: {}", key);
+      return (T) await(leader);
+    }
+
+    try {
+      T value = loader.get();
+      flight.complete(value);
+      return value;
+    } catch (RuntimeException | Error ex) {
+      flight.completeExceptionally(ex);
+      throw ex;
+    } finally {
+      inFlight.remove(key, flight);
+    }
+  }
+
+  private static Object await(CompletableFuture<Object> flight) {
+    try {
+      return flight.join();
+    } catch (CompletionException ex) {
+      if (ex.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      if (ex.getCause() instanceof Error cause) {
+        throw cause;
+      }
+      throw ex;
+    }
+  }
+
+  private record FlightKey(String operation, String projectId, String scope, Object args) {
+  }
+}
@@ -0,0 +1,106 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.OpenstackContext;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.api.Builders;
+import org.openstack4j.api.exceptions.ResponseException;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.model.identity.v3.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 가상머신 소유자 표시에 필요한 Keystone 사용자 요약(ID, 이름)을 캐싱하는 클래스입니다.
+ * Keystone의 사용자 조회 권한(identity:get_user)은 호출자의 역할에 따라 달라지므로,
+ * 같은 프로젝트에서 같은 역할로 발급된 토큰끼리만 캐시를 공유하고 전체 사용자 정보는 보관하지 않습니다.
+ * 존재하지 않는(404) 사용자는 더 짧은 TTL로 부정 캐싱하며, 조회 권한이 없는(403) 결과는 캐싱하지 않습니다.
+ */
+@Slf4j
+@Component
+public class UserCache {
+
+  private final Cache<UserKey, CachedUser> cache;
+
+  public UserCache(@Value("${aoldacloud.cache.user.maximum-size:5000}") long maximumSize,
+                   @Value("${aoldacloud.cache.user.ttl:60s}") Duration ttl,
+                   @Value("${aoldacloud.cache.user.negative-ttl:15s}") Duration negativeTtl) {
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new CachedUserExpiry(ttl, negativeTtl))
+            .build();
+  }
+
+  /**
+   * 캐싱된 사용자 요약을 반환하고, 없으면 loader로 조회하여 ID와 이름만 캐싱합니다.
+   *
+   * @param context 조회 권한 범위를 결정하는 요청의 컨텍스트
+   * @param userId 사용자 ID
+   * @param loader 사용자 ID로 Keystone 사용자를 조회하는 함수 (없으면 null 반환)
+   * @return ID와 이름만 담은 사용자 또는 null (존재하지 않거나 조회 권한이 없는 경우)
+   */
+  public User getSummary(OpenstackContext context, String userId, Function<String, User> loader) {
+    Token token = context.getToken();
+    UserKey key = new UserKey(token.getProject().getId(), InventoryCache.scopeOf(token), userId);
+    CachedUser cached = cache.getIfPresent(key);
+    if (cached != null) {
+      return cached.user();
+    }
+
+    User summary;
+    try {
+      User user = loader.apply(userId);
+      summary = user == null ? null : Builders.user().id(user.getId()).name(user.getName()).build();
+    } catch (ResponseException ex) {
+      if (ex.getStatus() == 403) {
+        log.debug("사용자 [{}] 조회 권한이 없습니다.", userId);
+        return null;
+      }
+      if (ex.getStatus() != 404) {
+        throw ex;
+      }
+      log.debug("사용자 [{}] 조회 실패(status=404)를 부정 캐싱합니다.", userId);
+      summary = null;
+    }
+    cache.put(key, new CachedUser(summary));
+    return summary;
+  }
+
+  /**
+   * 사용자 정보가 변경된 경우 모든 권한 범위에서 캐시를 제거합니다.
+   *
+   * @param userId 사용자 ID
+   */
+  public void evict(String userId) {
+    cache.asMap().keySet().removeIf(key -> key.userId().equals(userId));
+  }
+
+  private record UserKey(String projectId, String scope, String userId) {
+  }
+
+  private record CachedUser(User user) {
+  }
+
+  private record CachedUserExpiry(Duration ttl, Duration negativeTtl) implements Expiry<UserKey, CachedUser> {
+
+    @Override
+    public long expireAfterCreate(UserKey key, CachedUser value, long currentTime) {
+      return (value.user() == null ? negativeTtl : ttl).toNanos();
+    }
+
+    @Override
+    public long expireAfterUpdate(UserKey key, CachedUser value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(UserKey key, CachedUser value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -1,8 +1,16 @@
 package com.aoldacloud.console.global.repository;
 
 import com.aoldacloud.console.domain.auth.dto.UserDto;
+import com.aoldacloud.console.global.OpenstackClientCache;
+import com.aoldacloud.console.global.OpenstackContext;
 import com.aoldacloud.console.global.OpenstackService;
+import com.aoldacloud.console.global.cache.InventoryMirror;
+import com.aoldacloud.console.global.cache.ProjectMembershipCache;
+import com.aoldacloud.console.global.cache.UserCache;
 import com.aoldacloud.console.security.entity.CloudSession;
+import com.aoldacloud.console.security.entity.KeystoneUserDetails;
+import com.aoldacloud.console.security.session.SessionExpiry;
+import com.aoldacloud.console.security.session.SessionStore;
 import com.aoldacloud.console.util.SecurityUtils;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,21 +20,27 @@ import org.openstack4j.model.identity.v3.Domain;
 import org.openstack4j.model.identity.v3.Project;
 import org.openstack4j.model.identity.v3.Token;
 import org.openstack4j.model.identity.v3.User;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.openstack4j.openstack.OSFactory;
 import org.springframework.stereotype.Repository;
 
+import java.time.Duration;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class KeystoneRepository {
 
-  private final RedisTemplate<String, CloudSession> cloudSessionRedisTemplate;
+  private final SessionStore sessionStore;
+  private final UserCache userCache;
+  private final ProjectMembershipCache projectMembershipCache;
+  private final SessionExpiry sessionExpiry;
+  private final OpenstackClientCache openstackClientCache;
+  private final InventoryMirror inventoryMirror;
 
   /**
-   * 로그인한 사용자의 정보를 토대로 토큰을 생성하고, 해당 토큰을 Redis에 캐싱합니다.
+   * 로그인한 사용자의 정보를 토대로 토큰을 생성하고, 해당 토큰의 세션을 세션 저장소에 저장합니다.
+   * 사용자의 프로젝트 목록은 백그라운드에서 미리 조회하여 캐싱합니다.
    *
    * @param username 사용자 이름
    * @param password 사용자 패스워드
@@ -37,14 +51,19 @@ public class KeystoneRepository {
       OSClientV3 client = OpenstackService.getClient(username,password);
       User user = client.getToken().getUser();
 
-      String token = SecurityUtils.generateToken(user.getId());
       user.toBuilder().password(password).build();
-      cloudSessionRedisTemplate.opsForValue().set(token, CloudSession.builder().token(client.getToken()).build(), 3, TimeUnit.HOURS);
+      Duration ttl = sessionExpiry.ttlOf(client.getToken());
+      String token = sessionStore.save(SecurityUtils.generateToken(user.getId()), CloudSession.builder().token(client.getToken()).build(), ttl);
+      Token loginToken = client.getToken();
+      projectMembershipCache.prefetch(user.getId(), () -> OSFactory.clientFromToken(loginToken)
+              .identity().users()
+              .listUserProjects(user.getId()));
 
       user.toBuilder().password(null).build();
       return UserDto.builder()
               .user(user)
               .authToken(token)
+              .sessionTtl(ttl)
               .build();
     } catch (Exception ex) {
       log.error(ex.getLocalizedMessage());
@@ -53,27 +72,81 @@ public class KeystoneRepository {
   }
 
   /**
-   * 로그인한 사용자의 정보를 토대로 토큰을 생성하고, 해당 토큰을 Redis에 캐싱합니다.
+   * 현재 세션의 Keystone 토큰을 지정한 프로젝트 범위로 재발급하고, 세션을 새 토큰으로 교체합니다.
+   * Keystone이 토큰 재발급을 허용하지 않으면 세션에 저장된 자격 증명으로 다시 인증합니다.
+   * 프로젝트를 변경하면 사용자의 프로젝트 목록 캐시와 기존 토큰으로 재인증한 API 토큰 캐시를 무효화하고,
+   * 인벤토리 미러에서 기존 토큰을 해제합니다.
    *
-   * @param username 사용자 이름
-   * @param password 사용자 패스워드
-   * @param project 프로젝트 식별자
-   * @return 사용자 정보와 생성된 토큰을 포함한 UserDto
+   * @param projectId 변경할 프로젝트 ID
+   * @return 사용자 정보와 클라이언트에 전달할 인증 토큰을 포함한 UserDto
    */
-  public UserDto getUserByCredentials(String username, String password, Identifier project) {
+  public UserDto switchProject(String projectId) {
     try {
-      OSClientV3 client = OpenstackService.getClient(username,password, project);
-      String token = SecurityUtils.getAuthenticatedUserDetails().getAuthToken();
+      KeystoneUserDetails userDetails = SecurityUtils.getAuthenticatedUserDetails();
+      Token current = userDetails.getCloudSession().getToken();
 
-      cloudSessionRedisTemplate.opsForValue().set(token, CloudSession.builder().token(client.getToken()).build(), 3, TimeUnit.HOURS);
+      Token rescoped;
+      try {
+        rescoped = OpenstackService.rescopeToken(current, projectId);
+      } catch (RuntimeException ex) {
+        if (current.getCredentials() == null || current.getCredentials().getUsername() == null) {
+          throw ex;
+        }
+        log.warn("프로젝트 [{}] 토큰 재발급 실패, 자격 증명으로 다시 인증합니다: {}", projectId, ex.getMessage());
+        rescoped = OpenstackService.getClient(current.getCredentials().getUsername(), current.getCredentials().getPassword(),
+                Identifier.byId(projectId)).getToken();
+      }
+
+      Duration ttl = sessionExpiry.ttlOf(rescoped);
+      String token = sessionStore.replace(userDetails.getAuthToken(), CloudSession.builder().token(rescoped).build(), ttl);
+      if (token == null) {
+        throw new IllegalStateException("세션이 만료되었습니다.");
+      }
+      projectMembershipCache.invalidate(rescoped.getUser().getId());
+      openstackClientCache.evict(current.getId());
+      inventoryMirror.release(current.getId());
 
       return UserDto.builder()
-              .user(client.getToken().getUser())
+              .user(rescoped.getUser())
               .authToken(token)
+              .sessionTtl(ttl)
               .build();
     } catch (Exception ex) {
       log.error(ex.getLocalizedMessage());
-      throw new RuntimeException("Keystone에서 사용자 정보를 가져오는 중 오류가 발생했습니다.", ex);
+      throw new RuntimeException("프로젝트를 변경하는 중 오류가 발생했습니다.", ex);
+    }
+  }
+
+  /**
+   * 사용자의 프로젝트 목록 캐시를 모든 인스턴스에서 제거합니다.
+   *
+   * @param userId 사용자 ID
+   */
+  public void evictUserProjects(String userId) {
+    projectMembershipCache.invalidate(userId);
+  }
+
+  /**
+   * 세션의 Keystone 토큰으로 재인증하여 캐싱한 API 토큰을 제거하고, 인벤토리 미러에서 토큰을 해제합니다.
+   *
+   * @param tokenId 세션의 Keystone 토큰 ID
+   */
+  public void evictOpenstackToken(String tokenId) {
+    openstackClientCache.evict(tokenId);
+    inventoryMirror.release(tokenId);
+  }
+
+  /**
+   * 인증 토큰의 세션을 세션 저장소에서 삭제합니다.
+   *
+   * @param token 인증 토큰
+   */
+  public void deleteSession(String token) {
+    try {
+      sessionStore.delete(token);
+    } catch (Exception ex) {
+      log.error("세션 삭제 중 오류 발생: {}", ex.getMessage());
+      throw new RuntimeException("세션 삭제 중 오류가 발생했습니다.", ex);
     }
   }
 
@@ -88,13 +161,19 @@ public class KeystoneRepository {
     }
   }
 
+  /**
+   * 현재 사용자의 프로젝트 목록을 반환합니다. 사용자별로 캐싱된 목록을 사용합니다.
+   *
+   * @return 사용자가 속한 프로젝트 목록
+   */
   public List<? extends Project> getUserProjects() {
     try {
-      Token token = SecurityUtils.getSessionToken();
+      OpenstackContext context = OpenstackContext.current();
+      String userId = context.getToken().getUser().getId();
 
-      return OpenstackService.getClient()
+      return projectMembershipCache.get(userId, () -> OpenstackContext.current().getClient()
               .identity().users()
-              .listUserProjects(token.getUser().getId());
+              .listUserProjects(userId));
 
     } catch (Exception ex) {
       throw new RuntimeException("프로젝트 목록을 가져오는 중 오류가 발생했습니다.", ex);
@@ -182,6 +261,7 @@ public class KeystoneRepository {
       User updatedUserEntity = OpenstackService.getClient()
               .identity().users()
               .update(updatedUser);
+      userCache.evict(updatedUserEntity.getId());
 
       return UserDto.builder()
               .user(updatedUserEntity)
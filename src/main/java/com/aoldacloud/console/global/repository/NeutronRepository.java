@@ -1,7 +1,13 @@
 package com.aoldacloud.console.global.repository;
 
 import com.aoldacloud.console.domain.network.dto.*;
+import com.aoldacloud.console.global.ListFilter;
 import com.aoldacloud.console.global.OpenstackService;
+import com.aoldacloud.console.global.cache.InventoryCache;
+import com.aoldacloud.console.global.cache.InventoryMirror;
+import com.aoldacloud.console.global.cache.InventoryResource;
+import com.aoldacloud.console.global.cache.SingleFlight;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openstack4j.api.Builders;
@@ -10,13 +16,38 @@ import org.openstack4j.model.network.*;
 import org.openstack4j.model.network.options.PortListOptions;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class NeutronRepository {
 
+  private final InventoryCache inventoryCache;
+  private final InventoryMirror inventoryMirror;
+  private final SingleFlight singleFlight;
+
+  /**
+   * Neutron은 삭제된 리소스를 포함하는 증분 조회를 지원하지 않으므로, 인벤토리 미러는 매번 전체 목록을 동기화합니다.
+   */
+  @PostConstruct
+  void registerMirror() {
+    inventoryMirror.<Subnet>register(InventoryResource.SUBNETS,
+            (current, changesSince) -> List.copyOf(getClient().networking().subnet().list()));
+    inventoryMirror.<Port>register(InventoryResource.PORTS,
+            (current, changesSince) -> List.copyOf(getClient().networking().port().list()));
+    inventoryMirror.<Router>register(InventoryResource.ROUTERS,
+            (current, changesSince) -> List.copyOf(getClient().networking().router().list()));
+    inventoryMirror.<NetFloatingIP>register(InventoryResource.FLOATING_IPS,
+            (current, changesSince) -> List.copyOf(getClient().networking().floatingip().list()));
+  }
+
   public Subnet createSubnet(SubnetCreateDto subnetCreateDto) {
     try {
       OSClientV3 os = getClient();
@@ -44,20 +75,42 @@ public class NeutronRepository {
     }
   }
 
-  public List<? extends Subnet> listSubnets() {
+  /**
+   * openstack4j의 서브넷 목록 조회는 쿼리 파라미터를 지원하지 않으므로, 필터와 정렬 조건을 조회 결과에 적용합니다.
+   * 인벤토리 미러에 최신 목록이 있으면 미러의 목록을 사용합니다.
+   *
+   * @param filter 필터와 정렬 조건
+   * @return 서브넷 목록
+   */
+  public List<? extends Subnet> listSubnets(ListFilter filter) {
     try {
-      OSClientV3 os = getClient();
-      return os.networking().subnet().list();
+      Optional<List<Subnet>> mirrored = inventoryMirror.lookup(InventoryResource.SUBNETS);
+      if (mirrored.isPresent()) {
+        return filterSubnets(mirrored.get(), filter);
+      }
+      return inventoryCache.get(InventoryResource.SUBNETS, filter, () -> {
+        OSClientV3 os = getClient();
+        return filterSubnets(os.networking().subnet().list(), filter);
+      });
     } catch (Exception ex) {
       log.error("서브넷 목록 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("서브넷 목록 조회 중 오류가 발생했습니다.", ex);
     }
   }
 
+  private List<Subnet> filterSubnets(List<? extends Subnet> subnets, ListFilter filter) {
+    Stream<Subnet> filtered = subnets.stream()
+            .map(Subnet.class::cast)
+            .filter(subnet -> filter.matchesName(subnet.getName()))
+            .filter(subnet -> filter.matchesNetworkId(subnet.getNetworkId()));
+    return filter.sort(filtered, Map.of(
+            "name", Subnet::getName,
+            "id", Subnet::getId));
+  }
+
   public Subnet getSubnetById(String subnetId) {
     try {
-      OSClientV3 os = getClient();
-      return os.networking().subnet().get(subnetId);
+      return singleFlight.execute("neutron.subnet", subnetId, () -> getClient().networking().subnet().get(subnetId));
     } catch (Exception ex) {
       log.error("서브넷 상세 정보 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("서브넷 상세 정보 조회 중 오류가 발생했습니다.", ex);
@@ -111,10 +164,53 @@ public class NeutronRepository {
     }
   }
 
-  public List<? extends Port> listPorts() {
+  /**
+   * 상태, 네트워크 ID, 장치 ID와 정렬 조건은 Neutron 쿼리 파라미터로 전달합니다.
+   * Neutron의 name 필터는 완전 일치만 지원하므로 이름 접두사는 조회 결과에 적용합니다.
+   * 인벤토리 미러에 최신 목록이 있으면 미러의 목록에 모든 조건을 적용합니다.
+   *
+   * @param filter 필터와 정렬 조건
+   * @return 포트 목록
+   */
+  public List<? extends Port> listPorts(ListFilter filter) {
     try {
-      OSClientV3 os = getClient();
-      return os.networking().port().list();
+      Optional<List<Port>> mirrored = inventoryMirror.lookup(InventoryResource.PORTS);
+      if (mirrored.isPresent()) {
+        Stream<Port> ports = mirrored.get().stream()
+                .filter(port -> filter.matchesStatus(port.getState() == null ? null : port.getState().name()))
+                .filter(port -> filter.matchesNetworkId(port.getNetworkId()))
+                .filter(port -> filter.matchesDeviceId(port.getDeviceId()))
+                .filter(port -> filter.matchesName(port.getName()));
+        return filter.sort(ports, Map.of(
+                "name", Port::getName,
+                "id", Port::getId,
+                "status", port -> port.getState() == null ? null : port.getState().name()));
+      }
+      return inventoryCache.get(InventoryResource.PORTS, filter, () -> {
+        OSClientV3 os = getClient();
+        Map<String, List<String>> params = new HashMap<>();
+        if (filter.getStatus() != null) {
+          params.put("status", List.of(filter.getStatus().toUpperCase(Locale.ROOT)));
+        }
+        if (filter.getNetworkId() != null) {
+          params.put("network_id", List.of(filter.getNetworkId()));
+        }
+        if (filter.getDeviceId() != null) {
+          params.put("device_id", List.of(filter.getDeviceId()));
+        }
+        if (filter.getSortKey() != null) {
+          params.put("sort_key", List.of(filter.getSortKey()));
+          params.put("sort_dir", List.of(filter.getSortDir() != null ? filter.getSortDir() : "asc"));
+        }
+
+        List<? extends Port> ports = os.networking().port().list(params);
+        if (!filter.hasName()) {
+          return ports;
+        }
+        return ports.stream()
+                .filter(port -> filter.matchesName(port.getName()))
+                .collect(Collectors.toList());
+      });
     } catch (Exception ex) {
       log.error("포트 목록 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("포트 목록 조회 중 오류가 발생했습니다.", ex);
@@ -123,8 +219,7 @@ public class NeutronRepository {
 
   public Port getPortById(String subnetId) {
     try {
-      OSClientV3 os = getClient();
-      return os.networking().port().get(subnetId);
+      return singleFlight.execute("neutron.port", subnetId, () -> getClient().networking().port().get(subnetId));
     } catch (Exception ex) {
       log.error("포트 상세 정보 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("포트 상세 정보 조회 중 오류가 발생했습니다.", ex);
@@ -176,20 +271,43 @@ public class NeutronRepository {
     }
   }
 
-  public List<? extends Router> listRouters() {
+  /**
+   * openstack4j의 라우터 목록 조회는 쿼리 파라미터를 지원하지 않으므로, 필터와 정렬 조건을 조회 결과에 적용합니다.
+   * 인벤토리 미러에 최신 목록이 있으면 미러의 목록을 사용합니다.
+   *
+   * @param filter 필터와 정렬 조건
+   * @return 라우터 목록
+   */
+  public List<? extends Router> listRouters(ListFilter filter) {
     try {
-      OSClientV3 os = getClient();
-      return os.networking().router().list();
+      Optional<List<Router>> mirrored = inventoryMirror.lookup(InventoryResource.ROUTERS);
+      if (mirrored.isPresent()) {
+        return filterRouters(mirrored.get(), filter);
+      }
+      return inventoryCache.get(InventoryResource.ROUTERS, filter, () -> {
+        OSClientV3 os = getClient();
+        return filterRouters(os.networking().router().list(), filter);
+      });
     } catch (Exception ex) {
       log.error("라우터 목록 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("라우터 목록 조회 중 오류가 발생했습니다.", ex);
     }
   }
 
+  private List<Router> filterRouters(List<? extends Router> routers, ListFilter filter) {
+    Stream<Router> filtered = routers.stream()
+            .map(Router.class::cast)
+            .filter(router -> filter.matchesName(router.getName()))
+            .filter(router -> filter.matchesStatus(router.getStatus() == null ? null : router.getStatus().name()));
+    return filter.sort(filtered, Map.of(
+            "name", Router::getName,
+            "id", Router::getId,
+            "status", router -> router.getStatus() == null ? null : router.getStatus().name()));
+  }
+
   public Router getRouterById(String routerId) {
     try {
-      OSClientV3 os = getClient();
-      return os.networking().router().get(routerId);
+      return singleFlight.execute("neutron.router", routerId, () -> getClient().networking().router().get(routerId));
     } catch (Exception ex) {
       log.error("라우터 상세 정보 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("라우터 상세 정보 조회 중 오류가 발생했습니다.", ex);
@@ -237,10 +355,39 @@ public class NeutronRepository {
     }
   }
 
-  public List<? extends NetFloatingIP> listFloatingIps() {
+  /**
+   * 상태, 외부 네트워크 ID와 정렬 조건을 Neutron 쿼리 파라미터로 전달합니다. Floating IP는 이름이 없으므로 이름 조건은 무시합니다.
+   * 인벤토리 미러에 최신 목록이 있으면 미러의 목록에 같은 조건을 적용합니다.
+   *
+   * @param filter 필터와 정렬 조건
+   * @return Floating IP 목록
+   */
+  public List<? extends NetFloatingIP> listFloatingIps(ListFilter filter) {
     try {
-      OSClientV3 os = getClient();
-      return os.networking().floatingip().list();
+      Optional<List<NetFloatingIP>> mirrored = inventoryMirror.lookup(InventoryResource.FLOATING_IPS);
+      if (mirrored.isPresent()) {
+        Stream<NetFloatingIP> floatingIps = mirrored.get().stream()
+                .filter(floatingIp -> filter.matchesStatus(floatingIp.getStatus()))
+                .filter(floatingIp -> filter.matchesNetworkId(floatingIp.getFloatingNetworkId()));
+        return filter.sort(floatingIps, Map.of(
+                "id", NetFloatingIP::getId,
+                "status", NetFloatingIP::getStatus));
+      }
+      return inventoryCache.get(InventoryResource.FLOATING_IPS, filter, () -> {
+        OSClientV3 os = getClient();
+        Map<String, String> params = new HashMap<>();
+        if (filter.getStatus() != null) {
+          params.put("status", filter.getStatus().toUpperCase(Locale.ROOT));
+        }
+        if (filter.getNetworkId() != null) {
+          params.put("floating_network_id", filter.getNetworkId());
+        }
+        if (filter.getSortKey() != null && !"name".equals(filter.getSortKey())) {
+          params.put("sort_key", filter.getSortKey());
+          params.put("sort_dir", filter.getSortDir() != null ? filter.getSortDir() : "asc");
+        }
+        return os.networking().floatingip().list(params);
+      });
     } catch (Exception ex) {
       log.error("Floating IP 목록 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("Floating IP 목록 조회 중 오류가 발생했습니다.", ex);
@@ -2,8 +2,17 @@ package com.aoldacloud.console.global.repository;
 
 import com.aoldacloud.console.domain.compute.dto.ServerCreateDto;
 import com.aoldacloud.console.domain.compute.dto.ServerUpdateDto;
+import com.aoldacloud.console.global.CursorPage;
+import com.aoldacloud.console.global.ListFilter;
+import com.aoldacloud.console.global.OpenstackContext;
 import com.aoldacloud.console.global.OpenstackService;
+import com.aoldacloud.console.global.cache.InventoryCache;
+import com.aoldacloud.console.global.cache.InventoryMirror;
+import com.aoldacloud.console.global.cache.InventoryResource;
+import com.aoldacloud.console.global.cache.ImageCache;
+import com.aoldacloud.console.global.cache.SingleFlight;
 import com.aoldacloud.console.util.SecurityUtils;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.openstack4j.api.OSClient.OSClientV3;
@@ -12,16 +21,41 @@ import org.openstack4j.model.compute.Action;
 import org.openstack4j.model.compute.Server;
 import org.openstack4j.model.compute.ServerCreate;
 import org.openstack4j.openstack.compute.domain.NovaServerCreate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 @Slf4j
 public class NovaRepository {
 
+  private final ImageCache imageCache;
+  private final InventoryCache inventoryCache;
+  private final InventoryMirror inventoryMirror;
+  private final SingleFlight singleFlight;
+
+  /**
+   * Nova의 osapi_max_limit(기본 1000)보다 작아야 다음 페이지 여부를 올바르게 판단할 수 있습니다.
+   */
+  @Value("${aoldacloud.compute.servers.max-page-size:500}")
+  private int maxPageSize;
+
+  @PostConstruct
+  void registerMirror() {
+    inventoryMirror.register(InventoryResource.SERVERS, this::syncServers);
+  }
+
   public Server createServer(ServerCreateDto serverCreateDto) {
     try {
       OSClientV3 os = getClient();
@@ -70,26 +104,158 @@ public class NovaRepository {
     }
   }
 
-  public List<? extends Server> listServers() {
+  /**
+   * 필터와 정렬 조건을 Nova 쿼리 파라미터로 전달하여 가상머신 목록을 조회합니다.
+   * 인벤토리 미러에 최신 목록이 있으면 미러의 목록에 필터와 정렬 조건을 적용합니다.
+   *
+   * @param filter 필터와 정렬 조건
+   * @return 가상머신 목록
+   */
+  public List<? extends Server> listServers(ListFilter filter) {
     try {
-      OSClientV3 os = getClient();
-      return os.compute().servers().list();
+      Optional<List<Server>> mirrored = inventoryMirror.lookup(InventoryResource.SERVERS);
+      if (mirrored.isPresent()) {
+        return filterServers(mirrored.get(), filter);
+      }
+      return inventoryCache.get(InventoryResource.SERVERS, filter, () -> {
+        OSClientV3 os = getClient();
+        return os.compute().servers().list(serverListParams(filter));
+      });
     } catch (Exception ex) {
       log.error("가상머신 목록 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("가상머신 목록 조회 중 오류가 발생했습니다.", ex);
     }
   }
 
+  /**
+   * Nova의 limit/marker 페이지네이션으로 가상머신 목록의 한 페이지를 조회합니다.
+   * 다음 페이지 여부를 판단하기 위해 limit보다 하나 더 조회합니다.
+   * 인벤토리 미러에 최신 목록이 있고 marker가 미러에 있으면, 미러의 목록에서 페이지를 만듭니다.
+   *
+   * @param filter 필터와 정렬 조건
+   * @param limit 페이지 크기 (최대 페이지 크기를 넘으면 최대 크기로 조정)
+   * @param marker 이전 페이지의 마지막 가상머신 ID (첫 페이지이면 null)
+   * @return 가상머신 페이지
+   */
+  public CursorPage<Server> listServers(ListFilter filter, int limit, String marker) {
+    try {
+      int pageSize = Math.min(limit, maxPageSize);
+      Optional<List<Server>> mirrored = inventoryMirror.lookup(InventoryResource.SERVERS);
+      if (mirrored.isPresent()) {
+        List<Server> servers = filterServers(mirrored.get(), filter);
+        boolean firstPage = marker == null || marker.isBlank();
+        int start = firstPage ? 0 : servers.stream().map(Server::getId).toList().indexOf(marker) + 1;
+        if (firstPage || start > 0) {
+          return CursorPage.of(servers.subList(start, Math.min(servers.size(), start + pageSize + 1)), pageSize, Server::getId);
+        }
+      }
+      return inventoryCache.get(InventoryResource.SERVERS, Arrays.asList(filter, limit, marker), () -> {
+        OSClientV3 os = getClient();
+        Map<String, String> params = serverListParams(filter);
+        params.put("limit", String.valueOf(pageSize + 1));
+        if (marker != null && !marker.isBlank()) {
+          params.put("marker", marker);
+        }
+        List<Server> servers = List.copyOf(os.compute().servers().list(params));
+        return CursorPage.of(servers, pageSize, Server::getId);
+      });
+    } catch (Exception ex) {
+      log.error("가상머신 목록 조회 중 오류 발생: {}", ex.getMessage());
+      throw new RuntimeException("가상머신 목록 조회 중 오류가 발생했습니다.", ex);
+    }
+  }
+
+  /**
+   * 인벤토리 미러의 가상머신 목록을 동기화합니다.
+   * 전체 동기화가 아니면 Nova의 changes-since로 기준 시각 이후에 변경되거나 삭제된 가상머신만 조회하여 현재 목록에 반영합니다.
+   * Nova의 기본 정렬과 같도록 생성 시각의 역순으로 정렬합니다.
+   */
+  private List<Server> syncServers(List<Server> current, Instant changesSince) {
+    OSClientV3 os = getClient();
+    Map<String, Server> servers = new LinkedHashMap<>();
+    if (current == null || changesSince == null) {
+      os.compute().servers().list(Map.of()).forEach(server -> servers.put(server.getId(), server));
+    } else {
+      current.forEach(server -> servers.put(server.getId(), server));
+      for (Server changed : os.compute().servers().list(Map.of("changes-since", changesSince.toString()))) {
+        if (changed.getStatus() == Server.Status.DELETED) {
+          servers.remove(changed.getId());
+        } else {
+          servers.put(changed.getId(), changed);
+        }
+      }
+    }
+    return servers.values().stream()
+            .sorted(Comparator.comparing(Server::getCreated, Comparator.nullsLast(Comparator.reverseOrder())))
+            .toList();
+  }
+
+  /**
+   * 인벤토리 미러의 가상머신 목록에 Nova 쿼리 파라미터와 같은 의미로 필터와 정렬 조건을 적용합니다.
+   */
+  private List<Server> filterServers(List<Server> servers, ListFilter filter) {
+    Stream<Server> filtered = servers.stream()
+            .filter(server -> filter.matchesStatus(statusOf(server)))
+            .filter(server -> filter.matchesName(server.getName()));
+    return filter.sort(filtered, Map.of(
+            "name", Server::getName,
+            "id", Server::getId,
+            "status", NovaRepository::statusOf,
+            "created_at", server -> server.getCreated() == null ? null : server.getCreated().toInstant().toString()));
+  }
+
+  private static String statusOf(Server server) {
+    return server.getStatus() == null ? null : server.getStatus().name();
+  }
+
+  /**
+   * Nova의 name 필터는 정규식이므로 접두사 앞에 ^를 붙이고 정규식 메타 문자(.^$*+?()[]{}|\)만 이스케이프합니다.
+   * 밑줄, 공백, 한글 등 나머지 문자는 그대로 전달합니다(DB 정규식 엔진에 따라 영숫자 앞의 백슬래시는 잘못된 이스케이프로 처리됩니다).
+   * 정렬 기준은 Nova의 정렬 키(display_name, uuid, vm_state)로 변환합니다.
+   */
+  private Map<String, String> serverListParams(ListFilter filter) {
+    Map<String, String> params = new HashMap<>();
+    if (filter.getStatus() != null) {
+      params.put("status", filter.getStatus().toUpperCase(Locale.ROOT));
+    }
+    if (filter.hasName()) {
+      params.put("name", "^" + filter.getName().replaceAll("([.^$*+?()\\[\\]{}|\\\\])", "\\\\$1"));
+    }
+    if (filter.getSortKey() != null) {
+      params.put("sort_key", switch (filter.getSortKey()) {
+        case "name" -> "display_name";
+        case "id" -> "uuid";
+        case "status" -> "vm_state";
+        default -> filter.getSortKey();
+      });
+      params.put("sort_dir", filter.getSortDir() != null ? filter.getSortDir() : "asc");
+    }
+    return params;
+  }
+
   public Server getServerById(String serverId) {
     try {
-      OSClientV3 os = getClient();
-      return os.compute().servers().get(serverId);
+      return singleFlight.execute("nova.server", serverId, () -> getClient().compute().servers().get(serverId));
     } catch (Exception ex) {
       log.error("가상머신 상세 정보 조회 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("가상머신 상세 정보 조회 중 오류가 발생했습니다.", ex);
     }
   }
 
+  /**
+   * 현재 프로젝트의 리소스 한도와 사용량을 조회합니다. 같은 프로젝트에서 동시에 들어온 조회는 하나의 업스트림 호출로 합칩니다.
+   *
+   * @return 리소스 한도와 사용량
+   */
+  public AbsoluteLimit getLimits() {
+    try {
+      return singleFlight.execute("nova.limits", null, () -> getClient().compute().quotaSets().limits().getAbsolute());
+    } catch (Exception ex) {
+      log.error("리소스 쿼터 조회 중 오류 발생: {}", ex.getMessage());
+      throw new RuntimeException("리소스 쿼터 조회 중 오류가 발생했습니다.", ex);
+    }
+  }
+
   public void performServerAction(String serverId, String action) {
     try {
       OSClientV3 os = getClient();
@@ -104,7 +270,9 @@ public class NovaRepository {
   public String createSnapshot(String serverId, String snapshotName) {
     try {
       OSClientV3 os = getClient();
-      return os.compute().servers().createSnapshot(serverId, snapshotName);
+      String snapshotId = os.compute().servers().createSnapshot(serverId, snapshotName);
+      imageCache.invalidateProject(OpenstackContext.current().getToken().getProject().getId());
+      return snapshotId;
     } catch (Exception ex) {
       log.error("스냅샷 생성 중 오류 발생: {}", ex.getMessage());
       throw new RuntimeException("스냅샷 생성 중 오류가 발생했습니다.", ex);
@@ -3,6 +3,7 @@ package com.aoldacloud.console.security;
 import com.aoldacloud.console.security.service.KeystoneUserDetailsService;
 import com.aoldacloud.console.security.entry.KeystoneAuthenticationEntryPoint;
 import com.aoldacloud.console.security.filter.KeystoneAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,7 @@ public class SecurityConfig {
                     corsConfig.setAllowedOrigins(List.of("http://localhost:3000"));
                     corsConfig.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE"));
                     corsConfig.setAllowedHeaders(List.of("Authorization", "Content-Type"));
+                    corsConfig.setExposedHeaders(List.of("Age"));
 
                     UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
                     source.registerCorsConfiguration("/**", corsConfig);
@@ -44,6 +46,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(authz -> authz
+                        // 스트리밍 응답의 비동기 디스패치는 최초 요청에서 이미 인증되었으므로 허용합니다.
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers("/api/v1.0/auth/login", "/api-docs/**", "/swagger-ui/**").permitAll()
                         .anyRequest().authenticated()
                 )
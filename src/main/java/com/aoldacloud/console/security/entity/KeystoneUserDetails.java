@@ -2,6 +2,7 @@ package com.aoldacloud.console.security.entity;
 
 import com.aoldacloud.console.domain.auth.dto.LoginDto;
 import lombok.Getter;
+import org.openstack4j.model.identity.AuthStore;
 import org.openstack4j.model.identity.v3.Token;
 import org.openstack4j.model.identity.v3.User;
 import org.springframework.security.core.GrantedAuthority;
@@ -27,12 +28,15 @@ public class KeystoneUserDetails implements UserDetails {
 
   @Override
   public String getPassword() {
-    return cloudSession.getToken().getCredentials().getPassword(); // Password는 필요 없음 (토큰 기반)
+    AuthStore credentials = cloudSession.getToken().getCredentials();
+    return credentials == null ? null : credentials.getPassword(); // Password는 필요 없음 (토큰 기반)
   }
 
   @Override
   public String getUsername() {
-    return cloudSession.getToken().getCredentials().getName(); // 사용자의 이름
+    AuthStore credentials = cloudSession.getToken().getCredentials();
+    // 자격 증명을 저장하지 않는 세션(stateless)은 토큰의 사용자 이름을 사용
+    return credentials == null ? cloudSession.getToken().getUser().getName() : credentials.getName(); // 사용자의 이름
   }
 
   @Override
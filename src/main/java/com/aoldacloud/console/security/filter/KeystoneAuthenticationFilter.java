@@ -1,10 +1,14 @@
 package com.aoldacloud.console.security.filter;
 
+import com.aoldacloud.console.global.OpenstackClientCache;
+import com.aoldacloud.console.global.OpenstackContext;
 import com.aoldacloud.console.global.OpenstackService;
 import com.aoldacloud.console.global.ResponseWrapper;
 import com.aoldacloud.console.security.entity.CloudSession;
 import com.aoldacloud.console.security.entity.KeystoneUserDetails;
 import com.aoldacloud.console.security.service.KeystoneUserDetailsService;
+import com.aoldacloud.console.security.session.SessionExpiry;
+import com.aoldacloud.console.security.session.SessionStore;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,7 +21,7 @@ import org.openstack4j.model.identity.v3.User;
 import org.openstack4j.openstack.OSFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -35,7 +39,9 @@ public class KeystoneAuthenticationFilter extends OncePerRequestFilter {
 
   private static final Logger logger = LoggerFactory.getLogger(KeystoneAuthenticationFilter.class);
 
-  private final RedisTemplate<String, CloudSession> cloudSessionRedisTemplate;
+  private final SessionStore sessionStore;
+  private final SessionExpiry sessionExpiry;
+  private final OpenstackClientCache openstackClientCache;
 
   /**
    * 요청의 쿠키에서 인증 토큰을 가져옵니다.
@@ -72,7 +78,7 @@ public class KeystoneAuthenticationFilter extends OncePerRequestFilter {
    */
   private CloudSession validateToken(String authToken) {
     try {
-      return cloudSessionRedisTemplate.opsForValue().get(authToken);
+      return sessionStore.get(authToken);
     } catch (Exception ex) {
       logger.warn("Keystone 토큰 검증 실패: {}", ex.getMessage());
       return null;
@@ -90,14 +96,29 @@ public class KeystoneAuthenticationFilter extends OncePerRequestFilter {
     return path.startsWith("/api/v1.0/auth/login") || path.startsWith("/api-docs") || path.startsWith("/swagger-ui") || path.startsWith("/favicon.ico");
   }
 
+  /**
+   * 요청 경로가 로그아웃 경로인지 확인합니다.
+   *
+   * @param request HTTP 요청 객체
+   * @return 로그아웃 경로이면 true, 그렇지 않으면 false
+   */
+  private boolean isLogoutPath(HttpServletRequest request) {
+    return request.getRequestURI().startsWith("/api/v1.0/auth/logout");
+  }
+
   /**
    * 인증이 실패한 경우 401 Unauthorized 응답을 전송합니다.
+   * 로그아웃 요청이면 세션이 이미 없더라도 인증 토큰 쿠키를 제거합니다.
    *
+   * @param request HTTP 요청 객체
    * @param response HTTP 응답 객체
    * @param message 응답 메시지
    * @throws IOException 입출력 예외
    */
-  private void sendUnauthorizedResponse(HttpServletResponse response, String message) throws IOException {
+  private void sendUnauthorizedResponse(HttpServletRequest request, HttpServletResponse response, String message) throws IOException {
+    if (isLogoutPath(request)) {
+      response.addHeader(HttpHeaders.SET_COOKIE, sessionExpiry.expiredCookie().toString());
+    }
     ResponseWrapper<Object> responseWrapper = new ResponseWrapper<>(false, null, message);
     response.setStatus(HttpStatus.UNAUTHORIZED.value());
     response.setContentType("application/json");
@@ -108,6 +129,7 @@ public class KeystoneAuthenticationFilter extends OncePerRequestFilter {
   /**
    * 요청에 대한 필터링 로직을 수행합니다.
    * 쿠키 또는 헤더에서 인증 토큰을 가져와 검증하며, 인증이 실패하면 401 응답을 전송합니다.
+   * 인증에 성공하면 요청의 OpenstackContext를 생성하고 세션의 만료 시간 연장을 예약하며, 쿠키로 인증한 경우 쿠키도 다시 발급합니다.
    *
    * @param request HTTP 요청 객체
    * @param response HTTP 응답 객체
@@ -124,9 +146,11 @@ public class KeystoneAuthenticationFilter extends OncePerRequestFilter {
       return;
     }
     String authToken = getAuthTokenFromHeader(request);
+    boolean fromCookie = false;
 
     if (authToken == null) {
       authToken = getAuthTokenFromCookies(request);
+      fromCookie = authToken != null;
     }
 
     if (authToken != null) {
@@ -139,15 +163,28 @@ public class KeystoneAuthenticationFilter extends OncePerRequestFilter {
         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
         SecurityContextHolder.getContext().setAuthentication(authentication);
 
+        try {
+          OpenstackContext.init(request, userDetails, openstackClientCache);
+        } catch (RuntimeException ex) {
+          logger.warn("{}, {}, 클라우드 인증 실패: {}", request.getRemoteHost(), request.getRequestURI(), ex.getMessage());
+          SecurityContextHolder.clearContext();
+          sendUnauthorizedResponse(request, response, "클라우드 인증에 실패하였습니다.");
+          return;
+        }
+
+        if (sessionExpiry.touch(authToken, session.getToken()) && fromCookie && !isLogoutPath(request)) {
+          response.addHeader(HttpHeaders.SET_COOKIE, sessionExpiry.cookieOf(authToken, sessionExpiry.ttlOf(session.getToken())).toString());
+        }
+
         logger.info("{}, {}, {}, 사용자가 성공적으로 인증되었습니다.", request.getRemoteHost(), request.getRequestURI(), authToken);
       } else {
         logger.info("{}, {}, 유효하지 않은 Keystone 토큰입니다. {}", request.getRemoteHost(), request.getRequestURI(), authToken);
-        sendUnauthorizedResponse(response, "유효하지 않은 인증 토큰입니다.");
+        sendUnauthorizedResponse(request, response, "유효하지 않은 인증 토큰입니다.");
         return;
       }
     } else {
       logger.info("{}, {}, {}, 인증 토큰이 존재하지 않습니다.", request.getRemoteHost(), request.getRequestURI(), authToken);
-      sendUnauthorizedResponse(response, "인증 토큰이 존재하지 않습니다.");
+      sendUnauthorizedResponse(request, response, "인증 토큰이 존재하지 않습니다.");
       return;
     }
 
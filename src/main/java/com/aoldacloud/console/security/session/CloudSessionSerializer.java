@@ -0,0 +1,261 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.security.entity.CloudSession;
+import com.fasterxml.jackson.annotation.JacksonInject;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.InjectableValues;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openstack4j.core.transport.ObjectMapperSingleton;
+import org.openstack4j.model.common.Identifier;
+import org.openstack4j.model.identity.AuthStore;
+import org.openstack4j.model.identity.v3.Authentication;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneAuth;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneService;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneToken;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CloudSession을 Redis에 저장하는 직렬화 클래스입니다.
+ * 모든 인증 요청에서 세션을 읽으므로, JDK 직렬화 대신 첫 바이트에 형식 버전을 두고 토큰을 Keystone 응답과 같은 JSON 구조로 저장합니다.
+ * 토큰 본문은 openstack4j가 Keystone 응답을 해석할 때와 같은 ObjectMapper 설정으로 읽고 쓰며,
+ * 응답 본문에 포함되지 않는 토큰 ID, Keystone 엔드포인트, 로그인 자격 증명은 별도 필드로 저장합니다.
+ * <p>
+ * 형식 2부터는 토큰에서 서비스 카탈로그를 제외하고, ServiceCatalogStore에 공유된 카탈로그의 해시만 저장합니다.
+ * 이전 형식(형식 1, JDK 직렬화)으로 저장된 세션도 읽을 수 있으며, 다음 로그인 또는 프로젝트 변경 시 새 형식으로 저장됩니다.
+ * 세션이 서버 밖(클라이언트의 인증 토큰)에 저장되는 경우에는 로그인 자격 증명을 제외하도록 생성할 수 있습니다.
+ */
+public class CloudSessionSerializer implements RedisSerializer<CloudSession> {
+
+  private static final byte VERSION_1 = 1;
+  private static final byte VERSION_2 = 2;
+  private static final String CATALOG = "catalog";
+
+  /**
+   * JDK 직렬화 스트림의 첫 바이트(STREAM_MAGIC 0xACED)입니다.
+   */
+  private static final byte JDK_STREAM_MAGIC = (byte) 0xAC;
+
+  private static final TypeReference<List<KeystoneService>> CATALOG_TYPE = new TypeReference<>() {
+  };
+
+  private final ObjectMapper objectMapper = ObjectMapperSingleton.getContext(KeystoneToken.class).copy()
+          .disable(SerializationFeature.INDENT_OUTPUT)
+          .disable(SerializationFeature.WRAP_ROOT_VALUE)
+          .disable(DeserializationFeature.UNWRAP_ROOT_VALUE)
+          .addMixIn(KeystoneToken.class, CredentialsExcluded.class);
+  private final ObjectMapper slimWriter = objectMapper.copy().addMixIn(KeystoneToken.class, CatalogExcluded.class);
+  private final ObjectMapper slimReader = objectMapper.copy().addMixIn(KeystoneToken.class, CatalogInjected.class);
+  private final JdkSerializationRedisSerializer legacySerializer = new JdkSerializationRedisSerializer();
+  private final ServiceCatalogStore serviceCatalogStore;
+  private final boolean includeCredentials;
+
+  public CloudSessionSerializer(ServiceCatalogStore serviceCatalogStore) {
+    this(serviceCatalogStore, true);
+  }
+
+  /**
+   * @param serviceCatalogStore 공유 서비스 카탈로그 저장소
+   * @param includeCredentials 로그인 자격 증명을 저장할지 여부 (false이면 토큰 재발급만으로 프로젝트를 변경할 수 있음)
+   */
+  public CloudSessionSerializer(ServiceCatalogStore serviceCatalogStore, boolean includeCredentials) {
+    this.serviceCatalogStore = serviceCatalogStore;
+    this.includeCredentials = includeCredentials;
+  }
+
+  @Override
+  public byte[] serialize(CloudSession session) throws SerializationException {
+    if (session == null) {
+      return new byte[0];
+    }
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream(1024);
+    out.write(VERSION_2);
+    try (JsonGenerator generator = objectMapper.createGenerator(out)) {
+      Token token = session.getToken();
+      generator.writeStartObject();
+      if (token != null) {
+        generator.writeStringField("id", token.getId());
+        generator.writeStringField("endpoint", token.getEndpoint());
+        if (includeCredentials) {
+          writeCredentials(generator, token.getCredentials());
+        }
+        generator.writeStringField(CATALOG, storeCatalog(token));
+        generator.writeFieldName("token");
+        slimWriter.writeValue(generator, token);
+      }
+      generator.writeEndObject();
+    } catch (IOException ex) {
+      throw new SerializationException("세션을 직렬화할 수 없습니다.", ex);
+    }
+    return out.toByteArray();
+  }
+
+  @Override
+  public CloudSession deserialize(byte[] bytes) throws SerializationException {
+    if (bytes == null || bytes.length == 0) {
+      return null;
+    }
+    if (bytes[0] == JDK_STREAM_MAGIC) {
+      return (CloudSession) legacySerializer.deserialize(bytes);
+    }
+    if (bytes[0] != VERSION_1 && bytes[0] != VERSION_2) {
+      throw new SerializationException("지원하지 않는 세션 형식입니다: " + bytes[0]);
+    }
+
+    try (JsonParser parser = objectMapper.createParser(bytes, 1, bytes.length - 1)) {
+      String id = null;
+      String endpoint = null;
+      String username = null;
+      String password = null;
+      String domainId = null;
+      String domainName = null;
+      List<KeystoneService> catalog = null;
+      KeystoneToken token = null;
+
+      expect(parser.nextToken(), JsonToken.START_OBJECT);
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String field = parser.currentName();
+        parser.nextToken();
+        switch (field) {
+          case "id" -> id = parser.getValueAsString();
+          case "endpoint" -> endpoint = parser.getValueAsString();
+          case "username" -> username = parser.getValueAsString();
+          case "password" -> password = parser.getValueAsString();
+          case "domainId" -> domainId = parser.getValueAsString();
+          case "domainName" -> domainName = parser.getValueAsString();
+          case CATALOG -> catalog = loadCatalog(parser.getValueAsString());
+          case "token" -> token = readToken(parser, catalog);
+          default -> parser.skipChildren();
+        }
+      }
+
+      if (token == null) {
+        return new CloudSession();
+      }
+      token.setId(id);
+      if (username != null) {
+        Identifier domain = domainId != null ? Identifier.byId(domainId) : Identifier.byName(domainName != null ? domainName : "default");
+        KeystoneAuth.AuthScope scope = token.getProject() != null
+                ? KeystoneAuth.AuthScope.project(Identifier.byId(token.getProject().getId()))
+                : null;
+        token.applyContext(endpoint, new KeystoneAuth(username, password, domain, scope));
+      } else {
+        token.setEndpoint(endpoint);
+      }
+      return CloudSession.builder().token(token).build();
+    } catch (IOException ex) {
+      throw new SerializationException("세션을 역직렬화할 수 없습니다.", ex);
+    }
+  }
+
+  /**
+   * 형식 2의 토큰에는 카탈로그가 없으므로 공유 카탈로그를 주입하고, 형식 1의 토큰은 그대로 읽습니다.
+   * 카탈로그 필드는 토큰 필드보다 먼저 기록됩니다.
+   */
+  private KeystoneToken readToken(JsonParser parser, List<KeystoneService> catalog) throws IOException {
+    if (catalog == null) {
+      return objectMapper.readValue(parser, KeystoneToken.class);
+    }
+    ObjectReader reader = slimReader.readerFor(KeystoneToken.class)
+            .with(new InjectableValues.Std().addValue(CATALOG, catalog));
+    return reader.readValue(parser);
+  }
+
+  private String storeCatalog(Token token) throws JsonProcessingException {
+    List<KeystoneService> catalog = new ArrayList<>();
+    if (token.getCatalog() != null) {
+      token.getCatalog().forEach(service -> catalog.add((KeystoneService) service));
+    }
+    return serviceCatalogStore.put(catalog, objectMapper.writeValueAsString(catalog));
+  }
+
+  private List<KeystoneService> loadCatalog(String hash) {
+    List<KeystoneService> catalog = serviceCatalogStore.get(hash, catalogJson -> {
+      try {
+        return objectMapper.readValue(catalogJson, CATALOG_TYPE);
+      } catch (JsonProcessingException ex) {
+        throw new SerializationException("서비스 카탈로그를 해석할 수 없습니다.", ex);
+      }
+    });
+    if (catalog == null) {
+      throw new SerializationException("세션의 서비스 카탈로그가 만료되었습니다: " + hash);
+    }
+    return catalog;
+  }
+
+  /**
+   * 세션의 토큰을 갱신할 때 필요한 로그인 자격 증명(사용자 이름, 패스워드, 사용자 도메인)을 기록합니다.
+   */
+  private void writeCredentials(JsonGenerator generator, AuthStore credentials) throws IOException {
+    if (credentials == null || credentials.getUsername() == null) {
+      return;
+    }
+    generator.writeStringField("username", credentials.getUsername());
+    generator.writeStringField("password", credentials.getPassword());
+
+    if (credentials instanceof KeystoneAuth auth && auth.getIdentity() != null && auth.getIdentity().getPassword() != null) {
+      Authentication.Identity.Password.User.Domain domain = auth.getIdentity().getPassword().getUser().getDomain();
+      if (domain != null && domain.getId() != null) {
+        generator.writeStringField("domainId", domain.getId());
+      } else if (domain != null) {
+        generator.writeStringField("domainName", domain.getName());
+      }
+    }
+  }
+
+  private void expect(JsonToken actual, JsonToken expected) {
+    if (actual != expected) {
+      throw new SerializationException("세션 형식이 올바르지 않습니다: " + actual);
+    }
+  }
+
+  /**
+   * 토큰 본문에서 로그인 자격 증명을 제외합니다. 자격 증명은 별도 필드로 저장하며,
+   * 프로젝트 범위가 지정된 자격 증명(KeystoneAuth.AuthScope)은 Jackson으로 다시 읽을 수 없습니다.
+   */
+  private abstract static class CredentialsExcluded {
+
+    @JsonIgnore
+    private KeystoneAuth credentials;
+  }
+
+  /**
+   * 세션에 저장하는 토큰에서 서비스 카탈로그와 로그인 자격 증명을 제외합니다.
+   */
+  private abstract static class CatalogExcluded {
+
+    @JsonIgnore
+    private List<KeystoneService> catalog;
+
+    @JsonIgnore
+    private KeystoneAuth credentials;
+  }
+
+  /**
+   * 세션에서 읽은 토큰에 공유 카탈로그를 주입하고, 로그인 자격 증명은 무시합니다.
+   */
+  private abstract static class CatalogInjected {
+
+    @JacksonInject(CATALOG)
+    private List<KeystoneService> catalog;
+
+    @JsonIgnore
+    private KeystoneAuth credentials;
+  }
+}
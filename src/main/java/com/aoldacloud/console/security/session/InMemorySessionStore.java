@@ -0,0 +1,86 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.security.entity.CloudSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 세션을 인스턴스 메모리에 저장하는 저장소입니다. (aoldacloud.session.store=memory일 때만 동작)
+ * 인스턴스 간에 세션을 공유하지 않으므로 단일 인스턴스 배포와 테스트에서만 사용합니다.
+ * 항목마다 만료 시각을 두며, Caffeine의 타이머 휠로 만료된 세션을 제거하고 직렬화 없이 세션 객체를 그대로 보관합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "aoldacloud.session.store", havingValue = "memory")
+public class InMemorySessionStore implements SessionStore {
+
+  private final Cache<String, StoredSession> sessions = Caffeine.newBuilder()
+          .expireAfter(new ExpireAtExpiry())
+          .scheduler(Scheduler.systemScheduler())
+          .build();
+
+  @Override
+  public CloudSession get(String authToken) {
+    StoredSession stored = sessions.getIfPresent(authToken);
+    return stored != null ? stored.session() : null;
+  }
+
+  @Override
+  public String save(String authToken, CloudSession session, Duration ttl) {
+    sessions.put(authToken, new StoredSession(session, System.currentTimeMillis() + ttl.toMillis()));
+    return authToken;
+  }
+
+  @Override
+  public String replace(String authToken, CloudSession session, Duration ttl) {
+    StoredSession replaced = sessions.asMap().computeIfPresent(authToken,
+            (key, stored) -> new StoredSession(session, System.currentTimeMillis() + ttl.toMillis()));
+    return replaced != null ? authToken : null;
+  }
+
+  @Override
+  public void delete(String authToken) {
+    sessions.invalidate(authToken);
+  }
+
+  @Override
+  public void expireAt(Map<String, Long> expireAtByAuthToken) {
+    expireAtByAuthToken.forEach((authToken, expireAt) ->
+            sessions.asMap().computeIfPresent(authToken, (key, stored) -> new StoredSession(stored.session(), expireAt)));
+  }
+
+  private record StoredSession(CloudSession session, long expireAt) {
+  }
+
+  /**
+   * 항목의 만료 시각까지 남은 시간을 만료 시간으로 사용합니다. 조회는 만료 시간을 변경하지 않습니다.
+   */
+  private static class ExpireAtExpiry implements Expiry<String, StoredSession> {
+
+    @Override
+    public long expireAfterCreate(String key, StoredSession value, long currentTime) {
+      return remainingNanos(value);
+    }
+
+    @Override
+    public long expireAfterUpdate(String key, StoredSession value, long currentTime, long currentDuration) {
+      return remainingNanos(value);
+    }
+
+    @Override
+    public long expireAfterRead(String key, StoredSession value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+
+    private long remainingNanos(StoredSession value) {
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0, value.expireAt() - System.currentTimeMillis()));
+    }
+  }
+}
@@ -0,0 +1,76 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.security.entity.CloudSession;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 세션을 Redis에 저장하는 저장소입니다. (기본값)
+ * 최근에 조회한 세션은 SessionNearCache에서 반환하고, 세션을 저장하거나 삭제하면 모든 인스턴스의 SessionNearCache 항목을 제거합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "aoldacloud.session.store", havingValue = "redis", matchIfMissing = true)
+public class RedisSessionStore implements SessionStore {
+
+  private final RedisTemplate<String, CloudSession> cloudSessionRedisTemplate;
+  private final SessionNearCache sessionNearCache;
+
+  public RedisSessionStore(@Qualifier("cloudSessionRedisTemplate") RedisTemplate<String, CloudSession> cloudSessionRedisTemplate,
+                           SessionNearCache sessionNearCache) {
+    this.cloudSessionRedisTemplate = cloudSessionRedisTemplate;
+    this.sessionNearCache = sessionNearCache;
+  }
+
+  @Override
+  public CloudSession get(String authToken) {
+    return sessionNearCache.get(authToken, cloudSessionRedisTemplate.opsForValue()::get);
+  }
+
+  @Override
+  public String save(String authToken, CloudSession session, Duration ttl) {
+    cloudSessionRedisTemplate.opsForValue().set(authToken, session, ttl);
+    sessionNearCache.invalidate(authToken);
+    return authToken;
+  }
+
+  /**
+   * SET XX로 기존 세션이 있을 때만 교체합니다.
+   */
+  @Override
+  public String replace(String authToken, CloudSession session, Duration ttl) {
+    Boolean replaced = cloudSessionRedisTemplate.opsForValue().setIfPresent(authToken, session, ttl);
+    sessionNearCache.invalidate(authToken);
+    return Boolean.TRUE.equals(replaced) ? authToken : null;
+  }
+
+  @Override
+  public void delete(String authToken) {
+    cloudSessionRedisTemplate.delete(authToken);
+    sessionNearCache.invalidate(authToken);
+  }
+
+  /**
+   * 만료 시각 변경을 하나의 파이프라인으로 Redis에 반영합니다. 세션 내용은 바뀌지 않으므로 SessionNearCache는 무효화하지 않습니다.
+   */
+  @Override
+  public void expireAt(Map<String, Long> expireAtByAuthToken) {
+    if (expireAtByAuthToken.isEmpty()) {
+      return;
+    }
+
+    @SuppressWarnings("unchecked")
+    RedisSerializer<String> keySerializer = (RedisSerializer<String>) cloudSessionRedisTemplate.getKeySerializer();
+    cloudSessionRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+      expireAtByAuthToken.forEach((authToken, expireAt) ->
+              connection.keyCommands().pExpireAt(keySerializer.serialize(authToken), expireAt));
+      return null;
+    });
+  }
+}
@@ -0,0 +1,93 @@
+package com.aoldacloud.console.security.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keystone 서비스 카탈로그를 내용의 해시로 한 번만 저장하는 저장소입니다.
+ * 같은 리전의 사용자는 모두 같은 카탈로그를 받으므로, 세션에는 카탈로그 해시만 저장하고 카탈로그는 Redis에 공유합니다.
+ * 해석한 카탈로그는 인스턴스 메모리에도 보관하여, 세션을 읽을 때 카탈로그를 매번 조회하고 해석하지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${aoldacloud.session.store:redis}' != 'memory'")
+public class ServiceCatalogStore {
+
+  private static final String KEY_PREFIX = "aoldacloud:catalog:";
+
+  private final StringRedisTemplate stringRedisTemplate;
+  private final Duration ttl;
+  private final Cache<String, List<KeystoneService>> catalogs;
+
+  public ServiceCatalogStore(StringRedisTemplate stringRedisTemplate,
+                             @Value("${aoldacloud.session.catalog.ttl:24h}") Duration ttl,
+                             @Value("${aoldacloud.session.catalog.maximum-size:100}") long maximumSize) {
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.ttl = ttl;
+    this.catalogs = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterAccess(ttl)
+            .build();
+  }
+
+  /**
+   * 카탈로그를 저장하고 내용의 해시를 반환합니다. 이미 저장된 카탈로그이면 만료 시간만 연장합니다.
+   * TTL은 세션 유효 시간보다 길어야 하며, 로그인할 때마다 연장되므로 사용 중인 카탈로그는 만료되지 않습니다.
+   *
+   * @param catalog 해석된 카탈로그
+   * @param catalogJson 카탈로그의 JSON 표현
+   * @return 카탈로그 해시
+   */
+  public String put(List<KeystoneService> catalog, String catalogJson) {
+    String hash = hashOf(catalogJson);
+    stringRedisTemplate.opsForValue().set(KEY_PREFIX + hash, catalogJson, ttl);
+    catalogs.put(hash, List.copyOf(catalog));
+    return hash;
+  }
+
+  /**
+   * 해시로 카탈로그를 조회합니다. 인스턴스 메모리에 없으면 Redis에서 조회하여 해석합니다.
+   *
+   * @param hash 카탈로그 해시
+   * @param parser 카탈로그 JSON을 해석하는 함수
+   * @return 카탈로그 (Redis에도 없으면 null)
+   */
+  public List<KeystoneService> get(String hash, Function<String, List<KeystoneService>> parser) {
+    List<KeystoneService> catalog = catalogs.getIfPresent(hash);
+    if (catalog != null) {
+      return catalog;
+    }
+
+    String catalogJson = stringRedisTemplate.opsForValue().get(KEY_PREFIX + hash);
+    if (catalogJson == null) {
+      log.warn("서비스 카탈로그 [{}]가 존재하지 않습니다.", hash);
+      return null;
+    }
+    catalog = List.copyOf(parser.apply(catalogJson));
+    catalogs.put(hash, catalog);
+    return catalog;
+  }
+
+  private String hashOf(String catalogJson) {
+    try {
+      MessageDigest digest = MessageDigest.getInstance("SHA-256");
+      return HexFormat.of().formatHex(digest.digest(catalogJson.getBytes(StandardCharsets.UTF_8)));
+    } catch (NoSuchAlgorithmException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+}
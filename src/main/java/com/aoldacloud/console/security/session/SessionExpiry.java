@@ -0,0 +1,132 @@
+package com.aoldacloud.console.security.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.openstack4j.model.identity.v3.Token;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션의 만료 시간을 관리하는 클래스입니다.
+ * 세션은 마지막 사용 시점으로부터 idle-timeout 동안 유지되며(sliding expiration), Keystone 토큰이 만료되기 전에 먼저 만료됩니다.
+ * 요청마다 세션 저장소에 쓰지 않도록, 세션별로 refresh-interval에 한 번만 연장 요청을 모아 두었다가 주기적으로 한 번에 반영합니다.
+ */
+@Slf4j
+@Component
+public class SessionExpiry {
+
+  public static final String COOKIE_NAME = "X-AUTH-TOKEN";
+
+  private final SessionStore sessionStore;
+  private final Duration idleTimeout;
+  private final Duration tokenExpiryMargin;
+  private final Cache<String, Boolean> recentlyTouched;
+  private final Map<String, Long> pendingExpireAt = new ConcurrentHashMap<>();
+
+  public SessionExpiry(SessionStore sessionStore,
+                       @Value("${aoldacloud.session.idle-timeout:3h}") Duration idleTimeout,
+                       @Value("${aoldacloud.session.token-expiry-margin:5m}") Duration tokenExpiryMargin,
+                       @Value("${aoldacloud.session.refresh-interval:PT1M}") Duration refreshInterval) {
+    this.sessionStore = sessionStore;
+    this.idleTimeout = idleTimeout;
+    this.tokenExpiryMargin = tokenExpiryMargin;
+    this.recentlyTouched = Caffeine.newBuilder()
+            .expireAfterWrite(refreshInterval)
+            .build();
+  }
+
+  /**
+   * 지금부터 세션을 유지할 시간을 계산합니다. idle-timeout과 Keystone 토큰 만료 시각(여유 시간 제외) 중 먼저 도래하는 시점까지입니다.
+   *
+   * @param token 세션의 Keystone 토큰
+   * @return 세션 TTL (토큰이 이미 만료되었으면 0)
+   */
+  public Duration ttlOf(Token token) {
+    if (token == null || token.getExpires() == null) {
+      return idleTimeout;
+    }
+    long untilTokenExpiry = token.getExpires().getTime() - tokenExpiryMargin.toMillis() - System.currentTimeMillis();
+    return Duration.ofMillis(Math.max(0, Math.min(idleTimeout.toMillis(), untilTokenExpiry)));
+  }
+
+  /**
+   * 인증된 요청이 들어왔음을 기록합니다. 이 인스턴스에서 refresh-interval 안에 이미 기록한 세션이면 무시합니다.
+   *
+   * @param authToken 인증 토큰
+   * @param token 세션의 Keystone 토큰
+   * @return 이번 호출로 만료 시간 연장이 예약되었으면 true
+   */
+  public boolean touch(String authToken, Token token) {
+    if (recentlyTouched.asMap().putIfAbsent(authToken, Boolean.TRUE) != null) {
+      return false;
+    }
+    pendingExpireAt.put(authToken, System.currentTimeMillis() + ttlOf(token).toMillis());
+    return true;
+  }
+
+  /**
+   * 인증 토큰 쿠키를 생성합니다. 쿠키의 유효 시간은 세션 저장소에 저장한 세션의 TTL과 같아 세션과 함께 만료되며,
+   * 세션을 연장할 때 다시 발급합니다.
+   *
+   * @param authToken 인증 토큰
+   * @param ttl 세션 TTL ({@link #ttlOf(Token)}, 없으면 idle-timeout)
+   * @return 인증 토큰 쿠키
+   */
+  public ResponseCookie cookieOf(String authToken, Duration ttl) {
+    return ResponseCookie.from(COOKIE_NAME, authToken)
+            .path("/")
+            .sameSite("Strict")
+            .httpOnly(true)
+            .secure(false)
+            .maxAge(ttl == null ? idleTimeout : ttl)
+            .build();
+  }
+
+  /**
+   * 인증 토큰 쿠키를 즉시 만료시키는 쿠키를 생성합니다. 로그아웃할 때 발급합니다.
+   *
+   * @return 만료된 인증 토큰 쿠키
+   */
+  public ResponseCookie expiredCookie() {
+    return ResponseCookie.from(COOKIE_NAME, "")
+            .path("/")
+            .sameSite("Strict")
+            .httpOnly(true)
+            .secure(false)
+            .maxAge(0) // 쿠키 만료
+            .build();
+  }
+
+  /**
+   * 예약된 만료 시간 연장을 세션 저장소에 한 번에 반영합니다. 이미 삭제된 세션은 무시됩니다.
+   */
+  @Scheduled(fixedDelayString = "${aoldacloud.session.refresh-interval:PT1M}")
+  public void flush() {
+    if (pendingExpireAt.isEmpty()) {
+      return;
+    }
+
+    Map<String, Long> batch = new HashMap<>();
+    for (String authToken : pendingExpireAt.keySet()) {
+      Long expireAt = pendingExpireAt.remove(authToken);
+      if (expireAt != null) {
+        batch.put(authToken, expireAt);
+      }
+    }
+
+    try {
+      sessionStore.expireAt(batch);
+      log.debug("세션 {}개의 만료 시간을 연장했습니다.", batch.size());
+    } catch (RuntimeException ex) {
+      log.warn("세션 만료 시간 연장 실패: {}개 {}", batch.size(), ex.toString());
+    }
+  }
+}
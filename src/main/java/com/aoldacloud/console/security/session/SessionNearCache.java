@@ -0,0 +1,65 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.global.cache.CacheInvalidationBus;
+import com.aoldacloud.console.security.entity.CloudSession;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 인증 토큰별로 해석된 CloudSession을 짧게 보관하는 인스턴스 내부 캐시입니다.
+ * 같은 브라우저에서 동시에 보내는 요청마다 Redis 조회와 세션 역직렬화를 반복하지 않도록 합니다.
+ * 세션을 저장하거나 삭제하면 Redis pub/sub으로 모든 인스턴스의 항목을 제거하며, 이벤트가 유실되더라도 TTL이 지나면 만료됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aoldacloud.session.store", havingValue = "redis", matchIfMissing = true)
+public class SessionNearCache {
+
+  private static final String CACHE_NAME = "session";
+
+  private final Cache<String, CloudSession> cache;
+  private final CacheInvalidationBus invalidationBus;
+
+  public SessionNearCache(CacheInvalidationBus invalidationBus,
+                          @Value("${aoldacloud.session.near-cache.ttl:5s}") Duration ttl,
+                          @Value("${aoldacloud.session.near-cache.maximum-size:10000}") long maximumSize) {
+    this.invalidationBus = invalidationBus;
+    this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfterWrite(ttl)
+            .build();
+
+    invalidationBus.subscribe(CACHE_NAME, cache::invalidate);
+  }
+
+  /**
+   * 캐싱된 세션을 반환하고, 없으면 loader로 조회하여 캐싱합니다. 존재하지 않는 세션은 캐싱하지 않습니다.
+   * 조회는 Caffeine의 원자적 로드로 실행되므로, 조회 중에 들어온 무효화는 조회가 끝난 뒤 적용되어
+   * 삭제되거나 교체되기 전의 세션이 다시 캐싱되지 않습니다.
+   *
+   * @param authToken 인증 토큰
+   * @param loader 저장소에서 세션을 조회하는 함수
+   * @return 세션 또는 null
+   */
+  public CloudSession get(String authToken, Function<String, CloudSession> loader) {
+    return cache.get(authToken, loader);
+  }
+
+  /**
+   * 세션을 이 인스턴스에서 즉시 제거하고, 다른 인스턴스에 무효화 이벤트를 발행합니다.
+   * 세션을 저장하거나 삭제한 뒤에 호출합니다.
+   *
+   * @param authToken 인증 토큰
+   */
+  public void invalidate(String authToken) {
+    cache.invalidate(authToken);
+    invalidationBus.publish(CACHE_NAME, authToken);
+  }
+}
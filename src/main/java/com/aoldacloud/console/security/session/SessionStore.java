@@ -0,0 +1,57 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.security.entity.CloudSession;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 인증 토큰별 CloudSession을 저장하는 저장소입니다.
+ * 구현은 aoldacloud.session.store 설정으로 선택합니다.
+ * (redis: 여러 인스턴스가 공유하는 Redis, memory: 단일 인스턴스용 메모리, stateless: 세션을 암호화하여 인증 토큰에 담음)
+ */
+public interface SessionStore {
+
+  /**
+   * 세션을 조회합니다.
+   *
+   * @param authToken 인증 토큰
+   * @return 세션 (없거나 만료되었으면 null)
+   */
+  CloudSession get(String authToken);
+
+  /**
+   * 세션을 저장합니다. 같은 인증 토큰의 세션이 있으면 교체합니다.
+   * 세션을 인증 토큰에 담는 저장소는 새 인증 토큰을 발급하고 기존 인증 토큰을 폐기합니다.
+   *
+   * @param authToken 인증 토큰
+   * @param session 세션
+   * @param ttl 세션 유효 시간
+   * @return 클라이언트에 전달할 인증 토큰
+   */
+  String save(String authToken, CloudSession session, Duration ttl);
+
+  /**
+   * 세션이 아직 존재하는 경우에만 한 번의 원자적 연산으로 교체합니다. 그 사이에 로그아웃하거나 만료된 세션은 되살리지 않습니다.
+   *
+   * @param authToken 인증 토큰
+   * @param session 새 세션
+   * @param ttl 세션 유효 시간
+   * @return 클라이언트에 전달할 인증 토큰 (세션이 존재하지 않으면 null)
+   */
+  String replace(String authToken, CloudSession session, Duration ttl);
+
+  /**
+   * 세션을 삭제합니다.
+   *
+   * @param authToken 인증 토큰
+   */
+  void delete(String authToken);
+
+  /**
+   * 여러 세션의 만료 시각을 한 번에 변경합니다. 존재하지 않는 세션은 무시합니다.
+   *
+   * @param expireAtByAuthToken 인증 토큰별 만료 시각 (epoch 밀리초)
+   */
+  void expireAt(Map<String, Long> expireAtByAuthToken);
+}
@@ -0,0 +1,292 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.global.cache.CacheInvalidationBus;
+import com.aoldacloud.console.security.entity.CloudSession;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 세션을 암호화하여 인증 토큰 자체에 담는 저장소입니다. (aoldacloud.session.store=stateless일 때만 동작)
+ * 인증 토큰은 CloudSessionSerializer로 직렬화한 세션과 만료 시각을 AES-GCM으로 암호화한 봉투이며,
+ * 요청마다 Redis를 조회하지 않고 인스턴스에서 복호화와 무결성 검증만으로 세션을 얻습니다.
+ * <p>
+ * 로그아웃하거나 프로젝트를 변경한 토큰은 만료 시각까지 Redis의 폐기 목록에 기록합니다.
+ * 각 인스턴스는 폐기 목록을 블룸 필터로 보관하여, 필터에 있을 수도 있는 토큰만 Redis에서 확인합니다.
+ * 만료 시각은 발급할 때 정해지므로 SessionExpiry의 만료 시간 연장은 적용되지 않습니다.
+ * <p>
+ * 인증 토큰은 클라이언트가 보관하므로 로그인 자격 증명(사용자 이름, 패스워드)은 담지 않습니다.
+ * 따라서 Keystone이 토큰 재발급을 허용하지 않으면 프로젝트를 변경할 수 없습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "aoldacloud.session.store", havingValue = "stateless")
+public class StatelessSessionStore implements SessionStore {
+
+  private static final byte VERSION_1 = 1;
+  private static final int KEY_LENGTH = 32;
+  private static final int NONCE_LENGTH = 12;
+  private static final int TAG_BITS = 128;
+  private static final String CIPHER = "AES/GCM/NoPadding";
+  private static final String REVOKED_KEY = "aoldacloud:session:revoked";
+  private static final String CHANNEL = "session-revocation";
+  private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+  private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+  private final SecretKey key;
+  private final CloudSessionSerializer serializer;
+  private final StringRedisTemplate stringRedisTemplate;
+  private final CacheInvalidationBus invalidationBus;
+  private final long expectedRevocations;
+  private final double falsePositiveRate;
+  private final SecureRandom random = new SecureRandom();
+  private final Set<String> receivedRevocations = ConcurrentHashMap.newKeySet();
+  private volatile BloomFilter revocations;
+
+  public StatelessSessionStore(ServiceCatalogStore serviceCatalogStore,
+                               StringRedisTemplate stringRedisTemplate,
+                               CacheInvalidationBus invalidationBus,
+                               @Value("${aoldacloud.session.stateless.key:}") String key,
+                               @Value("${aoldacloud.session.stateless.revocation.expected-size:100000}") long expectedRevocations,
+                               @Value("${aoldacloud.session.stateless.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+    byte[] keyBytes = key.isBlank() ? new byte[0] : Base64.getDecoder().decode(key);
+    if (keyBytes.length != KEY_LENGTH) {
+      throw new IllegalStateException("aoldacloud.session.stateless.key에 Base64로 인코딩된 256비트 키를 설정해야 합니다.");
+    }
+    this.key = new SecretKeySpec(keyBytes, "AES");
+    this.serializer = new CloudSessionSerializer(serviceCatalogStore, false);
+    this.stringRedisTemplate = stringRedisTemplate;
+    this.invalidationBus = invalidationBus;
+    this.expectedRevocations = expectedRevocations;
+    this.falsePositiveRate = falsePositiveRate;
+
+    invalidationBus.subscribe(CHANNEL, this::onRevocation);
+  }
+
+  @Override
+  public CloudSession get(String authToken) {
+    Envelope envelope = open(authToken);
+    if (envelope == null || isRevoked(envelope.id())) {
+      return null;
+    }
+    return serializer.deserialize(envelope.session());
+  }
+
+  /**
+   * 세션을 담은 새 인증 토큰을 발급합니다. 전달한 인증 토큰이 이 저장소에서 발급한 토큰이면 폐기합니다.
+   */
+  @Override
+  public String save(String authToken, CloudSession session, Duration ttl) {
+    String sealed = seal(serializer.serialize(session), System.currentTimeMillis() + ttl.toMillis());
+    delete(authToken);
+    return sealed;
+  }
+
+  /**
+   * 기존 인증 토큰이 유효하고 폐기되지 않았을 때만 새 인증 토큰을 발급하고 기존 토큰을 폐기합니다.
+   */
+  @Override
+  public String replace(String authToken, CloudSession session, Duration ttl) {
+    Envelope envelope = open(authToken);
+    if (envelope == null || isRevoked(envelope.id())) {
+      return null;
+    }
+    return save(authToken, session, ttl);
+  }
+
+  @Override
+  public void delete(String authToken) {
+    Envelope envelope = open(authToken);
+    if (envelope == null) {
+      return;
+    }
+    stringRedisTemplate.opsForZSet().add(REVOKED_KEY, envelope.id(), envelope.expireAt());
+    onRevocation(envelope.id());
+    invalidationBus.publish(CHANNEL, envelope.id());
+  }
+
+  @Override
+  public void expireAt(Map<String, Long> expireAtByAuthToken) {
+  }
+
+  /**
+   * Redis의 폐기 목록에서 만료된 항목을 제거하고, 남은 항목으로 블룸 필터를 다시 만듭니다.
+   * 다른 인스턴스의 폐기 이벤트는 즉시 필터에 추가되며, 이벤트가 유실되더라도 다시 만들 때 반영됩니다.
+   */
+  @Scheduled(fixedDelayString = "${aoldacloud.session.stateless.revocation.reload-interval:PT5M}")
+  public void reloadRevocations() {
+    try {
+      long now = System.currentTimeMillis();
+      receivedRevocations.clear();
+      stringRedisTemplate.opsForZSet().removeRangeByScore(REVOKED_KEY, 0, now);
+      Set<String> ids = stringRedisTemplate.opsForZSet().rangeByScore(REVOKED_KEY, now, Double.POSITIVE_INFINITY);
+
+      BloomFilter filter = new BloomFilter(Math.max(expectedRevocations, ids.size() * 2L), falsePositiveRate);
+      ids.forEach(filter::put);
+      revocations = filter;
+      receivedRevocations.forEach(filter::put);
+      log.debug("세션 폐기 목록을 다시 불러왔습니다: {}개", ids.size());
+    } catch (RuntimeException ex) {
+      log.warn("세션 폐기 목록 불러오기 실패: {}", ex.toString());
+    }
+  }
+
+  private void onRevocation(String id) {
+    receivedRevocations.add(id);
+    BloomFilter filter = revocations;
+    if (filter != null) {
+      filter.put(id);
+    }
+  }
+
+  /**
+   * 블룸 필터에 없는 토큰은 폐기되지 않은 것으로 판단하고, 있을 수도 있는 토큰만 Redis에서 확인합니다.
+   * 필터를 아직 불러오지 못했으면 Redis에서 확인하며, Redis에 연결할 수 없으면 폐기된 것으로 판단합니다.
+   */
+  private boolean isRevoked(String id) {
+    BloomFilter filter = revocations;
+    if (filter != null && !filter.mightContain(id)) {
+      return false;
+    }
+    try {
+      return stringRedisTemplate.opsForZSet().score(REVOKED_KEY, id) != null;
+    } catch (RuntimeException ex) {
+      log.warn("세션 폐기 여부 확인 실패: {}", ex.toString());
+      return true;
+    }
+  }
+
+  private String seal(byte[] session, long expireAt) {
+    byte[] nonce = new byte[NONCE_LENGTH];
+    random.nextBytes(nonce);
+    try {
+      Cipher cipher = Cipher.getInstance(CIPHER);
+      cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, nonce));
+      cipher.updateAAD(new byte[]{VERSION_1});
+      byte[] ciphertext = cipher.doFinal(ByteBuffer.allocate(Long.BYTES + session.length).putLong(expireAt).put(session).array());
+
+      return ENCODER.encodeToString(ByteBuffer.allocate(1 + NONCE_LENGTH + ciphertext.length)
+              .put(VERSION_1).put(nonce).put(ciphertext).array());
+    } catch (GeneralSecurityException ex) {
+      throw new IllegalStateException("인증 토큰을 발급할 수 없습니다.", ex);
+    }
+  }
+
+  /**
+   * 인증 토큰을 복호화합니다. 이 저장소에서 발급하지 않았거나, 변조되었거나, 만료된 토큰이면 null을 반환합니다.
+   */
+  private Envelope open(String authToken) {
+    if (authToken == null) {
+      return null;
+    }
+    byte[] bytes;
+    try {
+      bytes = DECODER.decode(authToken);
+    } catch (IllegalArgumentException ex) {
+      return null;
+    }
+    if (bytes.length <= 1 + NONCE_LENGTH + Long.BYTES || bytes[0] != VERSION_1) {
+      return null;
+    }
+
+    byte[] plaintext;
+    try {
+      Cipher cipher = Cipher.getInstance(CIPHER);
+      cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, bytes, 1, NONCE_LENGTH));
+      cipher.updateAAD(bytes, 0, 1);
+      plaintext = cipher.doFinal(bytes, 1 + NONCE_LENGTH, bytes.length - 1 - NONCE_LENGTH);
+    } catch (GeneralSecurityException ex) {
+      log.debug("인증 토큰을 복호화할 수 없습니다: {}", ex.toString());
+      return null;
+    }
+
+    long expireAt = ByteBuffer.wrap(plaintext).getLong();
+    if (expireAt <= System.currentTimeMillis()) {
+      return null;
+    }
+    String id = ENCODER.encodeToString(Arrays.copyOfRange(bytes, 1, 1 + NONCE_LENGTH));
+    return new Envelope(id, expireAt, Arrays.copyOfRange(plaintext, Long.BYTES, plaintext.length));
+  }
+
+  /**
+   * 복호화한 인증 토큰입니다. 토큰마다 임의로 생성하는 nonce를 폐기 목록의 ID로 사용합니다.
+   */
+  private record Envelope(String id, long expireAt, byte[] session) {
+  }
+
+  /**
+   * 폐기된 토큰 ID의 블룸 필터입니다. 여러 스레드에서 동시에 추가하고 조회할 수 있습니다.
+   */
+  static final class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitCount;
+    private final int hashCount;
+
+    BloomFilter(long expectedInsertions, double falsePositiveRate) {
+      long bits = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+      this.words = new AtomicLongArray((int) Math.max(1, (bits + 63) / 64));
+      this.bitCount = words.length() * 64L;
+      this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    void put(String id) {
+      long hash = hashOf(id);
+      for (int i = 0; i < hashCount; i++) {
+        long bit = indexOf(hash, i);
+        long mask = 1L << bit;
+        words.getAndAccumulate((int) (bit >>> 6), mask, (word, m) -> word | m);
+      }
+    }
+
+    boolean mightContain(String id) {
+      long hash = hashOf(id);
+      for (int i = 0; i < hashCount; i++) {
+        long bit = indexOf(hash, i);
+        if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+          return false;
+        }
+      }
+      return true;
+    }
+
+    /**
+     * 64비트 해시의 상위, 하위 32비트로 k개의 위치를 만듭니다. (Kirsch-Mitzenmacher)
+     */
+    private long indexOf(long hash, int i) {
+      int combined = (int) hash + i * (int) (hash >>> 32);
+      return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    /**
+     * FNV-1a 64비트 해시입니다.
+     */
+    private static long hashOf(String id) {
+      long hash = 0xcbf29ce484222325L;
+      for (byte b : id.getBytes(StandardCharsets.UTF_8)) {
+        hash ^= b & 0xff;
+        hash *= 0x100000001b3L;
+      }
+      return hash;
+    }
+  }
+}
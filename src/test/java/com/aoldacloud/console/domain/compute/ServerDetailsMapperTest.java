@@ -0,0 +1,121 @@
+package com.aoldacloud.console.domain.compute;
+
+import com.aoldacloud.console.domain.compute.dto.ServerDetailsDto;
+import com.aoldacloud.console.global.OpenstackContext;
+import com.aoldacloud.console.global.cache.ImageCache;
+import com.aoldacloud.console.global.cache.UserCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openstack4j.api.OSClient.OSClientV3;
+import org.openstack4j.api.compute.FlavorService;
+import org.openstack4j.model.compute.Flavor;
+import org.openstack4j.model.compute.Server;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ServerDetailsMapperTest {
+
+  private static final List<String> ENRICHED_FIELDS = List.of("flavor", "image", "volumes", "user");
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private ServerDetailsMapper mapper;
+  private OSClientV3 client;
+  private OpenstackContext context;
+
+  @BeforeEach
+  void setUp() {
+    mapper = new ServerDetailsMapper(mock(ImageCache.class), mock(UserCache.class));
+    ReflectionTestUtils.setField(mapper, "maxConcurrency", 4);
+    ReflectionTestUtils.setField(mapper, "timeout", Duration.ofSeconds(5));
+
+    client = mock(OSClientV3.class, RETURNS_DEEP_STUBS);
+    when(client.compute().flavors().get("f1")).thenReturn(null);
+    context = mock(OpenstackContext.class);
+    when(context.getClient()).thenReturn(client);
+  }
+
+  @Test
+  void summaryViewOmitsFieldsItDoesNotLoad() {
+    JsonNode json = serialize(ServerView.SUMMARY);
+
+    assertThat(json.get("id").asText()).isEqualTo("s1");
+    ENRICHED_FIELDS.forEach(field -> assertThat(json.has(field)).as(field).isFalse());
+  }
+
+  @Test
+  void standardViewOmitsNullFields() {
+    JsonNode json = serialize(ServerView.STANDARD);
+
+    assertThat(json.get("id").asText()).isEqualTo("s1");
+    ENRICHED_FIELDS.forEach(field -> assertThat(json.has(field)).as(field).isFalse());
+  }
+
+  @Test
+  void fullViewKeepsNullFields() {
+    JsonNode json = serialize(ServerView.FULL);
+
+    assertThat(json.get("id").asText()).isEqualTo("s1");
+    ENRICHED_FIELDS.forEach(field -> assertThat(json.has(field)).as(field).isTrue());
+    assertThat(json.get("flavor").isNull()).isTrue();
+    assertThat(json.get("volumes").isArray()).isTrue();
+  }
+
+  @Test
+  void looksUpFlavorsMissingFromList() {
+    Flavor listed = flavorOf("f1");
+    Flavor deleted = flavorOf("f2");
+    FlavorService flavorService = client.compute().flavors();
+    doReturn(List.of(listed)).when(flavorService).list();
+    when(flavorService.get("f2")).thenReturn(deleted);
+
+    List<ServerDetailsDto> details = mapper.mapAll(List.of(serverOf("s1", "f1"), serverOf("s2", "f2")), context, ServerView.STANDARD);
+
+    assertThat(details).extracting(dto -> dto.getFlavor().getId()).containsExactly("f1", "f2");
+    verify(flavorService, never()).get("f1");
+  }
+
+  @Test
+  void looksUpFlavorsOneByOneWhenListFails() {
+    when(client.compute().flavors().list()).thenThrow(new IllegalStateException("nova down"));
+    Flavor f1 = flavorOf("f1");
+    Flavor f2 = flavorOf("f2");
+    when(client.compute().flavors().get("f1")).thenReturn(f1);
+    when(client.compute().flavors().get("f2")).thenReturn(f2);
+
+    List<ServerDetailsDto> details = mapper.mapAll(List.of(serverOf("s1", "f1"), serverOf("s2", "f2")), context, ServerView.STANDARD);
+
+    assertThat(details).extracting(dto -> dto.getFlavor().getId()).containsExactly("f1", "f2");
+  }
+
+  private JsonNode serialize(ServerView view) {
+    return objectMapper.valueToTree(mapper.mapAll(List.of(serverOf("s1", "f1")), context, view).getFirst());
+  }
+
+  private static Server serverOf(String id, String flavorId) {
+    Server server = mock(Server.class);
+    when(server.getId()).thenReturn(id);
+    when(server.getName()).thenReturn("vm");
+    when(server.getStatus()).thenReturn(Server.Status.ACTIVE);
+    when(server.getFlavorId()).thenReturn(flavorId);
+    when(server.getOsExtendedVolumesAttached()).thenReturn(List.of());
+    return server;
+  }
+
+  private static Flavor flavorOf(String id) {
+    Flavor flavor = mock(Flavor.class);
+    when(flavor.getId()).thenReturn(id);
+    return flavor;
+  }
+}
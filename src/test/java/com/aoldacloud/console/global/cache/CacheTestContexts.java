@@ -0,0 +1,41 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.OpenstackContext;
+import org.openstack4j.model.identity.v3.Project;
+import org.openstack4j.model.identity.v3.Role;
+import org.openstack4j.model.identity.v3.Token;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 캐시 테스트에서 사용하는 프로젝트와 역할만 지정된 OpenstackContext를 만듭니다.
+ */
+final class CacheTestContexts {
+
+  private CacheTestContexts() {
+  }
+
+  static OpenstackContext contextOf(String projectId, String... roleNames) {
+    Project project = mock(Project.class);
+    when(project.getId()).thenReturn(projectId);
+
+    List<Role> roles = Arrays.stream(roleNames).map(name -> {
+      Role role = mock(Role.class);
+      when(role.getName()).thenReturn(name);
+      return role;
+    }).toList();
+
+    Token token = mock(Token.class);
+    when(token.getProject()).thenReturn(project);
+    doReturn(roles).when(token).getRoles();
+
+    OpenstackContext context = mock(OpenstackContext.class);
+    when(context.getToken()).thenReturn(token);
+    return context;
+  }
+}
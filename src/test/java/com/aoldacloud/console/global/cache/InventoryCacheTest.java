@@ -0,0 +1,167 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.OpenstackContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static com.aoldacloud.console.global.cache.CacheTestContexts.contextOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis 없이(aoldacloud.session.store=memory) 동작하는 InventoryCache의 L1 캐시를 검증합니다.
+ */
+class InventoryCacheTest {
+
+  private static final OpenstackContext MEMBER = contextOf("p1", "member");
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private InventoryCache inventoryCache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    CacheInvalidationBus invalidationBus = new CacheInvalidationBus(null, mock(ObjectProvider.class));
+    InventoryMirror inventoryMirror = new InventoryMirror(invalidationBus, false, Duration.ofMinutes(5), Duration.ofSeconds(30),
+            Duration.ofMinutes(5), 8, Duration.ofSeconds(30));
+    Duration ttl = Duration.ofMinutes(1);
+    inventoryCache = new InventoryCache(mock(ObjectProvider.class), invalidationBus, inventoryMirror, new SingleFlight(),
+            1000, ttl, ttl, ttl, ttl, ttl, Duration.ofMinutes(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void cachesLoadedList() {
+    AtomicInteger calls = new AtomicInteger();
+
+    assertThat(get(MEMBER, "q", () -> List.of(calls.incrementAndGet()))).containsExactly(1);
+    assertThat(get(MEMBER, "q", () -> List.of(calls.incrementAndGet()))).containsExactly(1);
+  }
+
+  @Test
+  void scopesEntriesByProjectRolesAndQuery() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<List<Integer>> loader = () -> List.of(calls.incrementAndGet());
+
+    List<Integer> member = get(MEMBER, "q", loader);
+
+    assertThat(get(contextOf("p1", "member"), "q", loader)).isEqualTo(member);
+    assertThat(get(contextOf("p2", "member"), "q", loader)).isNotEqualTo(member);
+    assertThat(get(contextOf("p1", "admin", "member"), "q", loader)).isNotEqualTo(member);
+    assertThat(get(MEMBER, "other", loader)).isNotEqualTo(member);
+    assertThat(calls).hasValue(4);
+  }
+
+  @Test
+  void reloadsAfterInvalidation() {
+    AtomicInteger calls = new AtomicInteger();
+    Supplier<List<Integer>> loader = () -> List.of(calls.incrementAndGet());
+    get(MEMBER, "q", loader);
+
+    inventoryCache.invalidate("p1", InventoryResource.SERVERS);
+
+    assertThat(get(MEMBER, "q", loader)).containsExactly(2);
+    assertThat(get(contextOf("p2", "member"), "q", loader)).containsExactly(3);
+    inventoryCache.invalidate("p1", InventoryResource.PORTS);
+    assertThat(get(MEMBER, "q", loader)).containsExactly(2);
+  }
+
+  @Test
+  void doesNotStoreLoadThatRacedInvalidation() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<List<String>> stale = CompletableFuture.supplyAsync(() -> get(MEMBER, "q", () -> {
+      started.countDown();
+      await(release);
+      return List.of("old");
+    }), executor);
+    started.await();
+    inventoryCache.invalidate("p1", InventoryResource.SERVERS);
+
+    CompletableFuture<List<String>> fresh = CompletableFuture.supplyAsync(() -> get(MEMBER, "q", () -> List.of("new")), executor);
+    assertThat(fresh.get(5, TimeUnit.SECONDS)).containsExactly("new");
+    release.countDown();
+
+    assertThat(stale.get(5, TimeUnit.SECONDS)).containsExactly("old");
+    assertThat(get(MEMBER, "q", () -> List.of("reloaded"))).containsExactly("new");
+  }
+
+  @Test
+  void doesNotStoreLoadThatRacedInvalidationWithoutNewerRead() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<List<String>> stale = CompletableFuture.supplyAsync(() -> get(MEMBER, "q", () -> {
+      started.countDown();
+      await(release);
+      return List.of("old");
+    }), executor);
+    started.await();
+    inventoryCache.invalidate("p1", InventoryResource.SERVERS);
+    release.countDown();
+
+    assertThat(stale.get(5, TimeUnit.SECONDS)).containsExactly("old");
+    assertThat(get(MEMBER, "q", () -> List.of("reloaded"))).containsExactly("reloaded");
+  }
+
+  @Test
+  void propagatesLeaderFailureWithoutCaching() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    IllegalStateException failure = new IllegalStateException("upstream down");
+
+    CompletableFuture<List<String>> leader = CompletableFuture.supplyAsync(() -> get(MEMBER, "q", () -> {
+      calls.incrementAndGet();
+      started.countDown();
+      await(release);
+      throw failure;
+    }), executor);
+    started.await();
+    CompletableFuture<List<String>> follower = CompletableFuture.supplyAsync(() -> get(MEMBER, "q", () -> {
+      calls.incrementAndGet();
+      return List.of("own");
+    }), executor);
+    Thread.sleep(100);
+    release.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCause(failure);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCause(failure);
+    assertThat(calls).hasValue(1);
+    assertThat(get(MEMBER, "q", () -> List.of("recovered"))).containsExactly("recovered");
+  }
+
+  private <T> T get(OpenstackContext context, Object query, Supplier<T> loader) {
+    return OpenstackContext.callWith(context, () -> inventoryCache.get(InventoryResource.SERVERS, query, loader));
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("테스트 대기 시간 초과");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
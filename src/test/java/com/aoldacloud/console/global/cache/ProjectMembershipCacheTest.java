@@ -0,0 +1,96 @@
+package com.aoldacloud.console.global.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openstack4j.model.identity.v3.Project;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class ProjectMembershipCacheTest {
+
+  private static final List<Project> OLD = List.of(mock(Project.class));
+  private static final List<Project> NEW = List.of(mock(Project.class));
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private ProjectMembershipCache membershipCache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    CacheInvalidationBus invalidationBus = new CacheInvalidationBus(null, mock(ObjectProvider.class));
+    membershipCache = new ProjectMembershipCache(invalidationBus, 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void cachesLoadedProjects() {
+    membershipCache.get("u1", () -> OLD);
+
+    assertThat(membershipCache.get("u1", () -> NEW)).isEqualTo(OLD);
+  }
+
+  @Test
+  void doesNotStoreLoadThatRacedInvalidation() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+
+    CompletableFuture<List<? extends Project>> stale = CompletableFuture.supplyAsync(() -> membershipCache.get("u1", () -> {
+      started.countDown();
+      await(release);
+      return OLD;
+    }), executor);
+    started.await();
+    membershipCache.invalidate("u1");
+    release.countDown();
+
+    assertThat(stale.get(5, TimeUnit.SECONDS)).isEqualTo(OLD);
+    assertThat(membershipCache.get("u1", () -> NEW)).isEqualTo(NEW);
+  }
+
+  @Test
+  void doesNotStorePrefetchThatRacedInvalidation() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CountDownLatch finished = new CountDownLatch(1);
+
+    membershipCache.prefetch("u1", () -> {
+      started.countDown();
+      await(release);
+      finished.countDown();
+      return OLD;
+    });
+    started.await();
+    membershipCache.invalidate("u1");
+    release.countDown();
+    finished.await(5, TimeUnit.SECONDS);
+    Thread.sleep(100);
+
+    assertThat(membershipCache.get("u1", () -> NEW)).isEqualTo(NEW);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("테스트 대기 시간 초과");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
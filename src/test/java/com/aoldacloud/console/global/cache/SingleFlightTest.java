@@ -0,0 +1,178 @@
+package com.aoldacloud.console.global.cache;
+
+import com.aoldacloud.console.global.OpenstackContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static com.aoldacloud.console.global.cache.CacheTestContexts.contextOf;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+  private final SingleFlight singleFlight = new SingleFlight();
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void followersShareLeaderResult() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      started.countDown();
+      await(release);
+      return "value";
+    }), executor);
+    started.await();
+    List<CompletableFuture<String>> followers = startFollowers("key", 4, calls);
+    awaitFollowersJoined(followers);
+    release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    for (CompletableFuture<String> follower : followers) {
+      assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+    }
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void leaderFailurePropagatesToFollowers() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    IllegalStateException failure = new IllegalStateException("upstream down");
+
+    CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> singleFlight.execute("key", () -> {
+      calls.incrementAndGet();
+      started.countDown();
+      await(release);
+      throw failure;
+    }), executor);
+    started.await();
+    List<CompletableFuture<String>> followers = startFollowers("key", 4, calls);
+    awaitFollowersJoined(followers);
+    release.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCause(failure);
+    for (CompletableFuture<String> follower : followers) {
+      assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class).hasCause(failure);
+    }
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  void failedFlightIsNotReused() {
+    assertThatThrownBy(() -> singleFlight.execute("key", () -> {
+      throw new IllegalStateException("upstream down");
+    })).isInstanceOf(IllegalStateException.class);
+
+    assertThat(singleFlight.<String>execute("key", () -> "value")).isEqualTo("value");
+  }
+
+  @Test
+  void doesNotCoalesceAcrossProjectsOrRoles() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+    List<OpenstackContext> contexts = List.of(
+            contextOf("p1", "member"),
+            contextOf("p2", "member"),
+            contextOf("p1", "admin", "member"),
+            contextOf("p1", "reader"));
+
+    List<CompletableFuture<Integer>> flights = new ArrayList<>();
+    for (OpenstackContext context : contexts) {
+      flights.add(CompletableFuture.supplyAsync(() -> OpenstackContext.callWith(context,
+              () -> singleFlight.execute("nova.limits", "args", () -> {
+                int call = calls.incrementAndGet();
+                await(release);
+                return call;
+              })), executor));
+    }
+    waitUntil(() -> calls.get() == contexts.size());
+    release.countDown();
+
+    List<Integer> results = new ArrayList<>();
+    for (CompletableFuture<Integer> flight : flights) {
+      results.add(flight.get(5, TimeUnit.SECONDS));
+    }
+    assertThat(results).doesNotHaveDuplicates();
+  }
+
+  @Test
+  void coalescesSameScopeRegardlessOfRoleOrder() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<Integer> leader = CompletableFuture.supplyAsync(() -> OpenstackContext.callWith(contextOf("p1", "member", "reader"),
+            () -> singleFlight.execute("nova.limits", "args", () -> {
+              started.countDown();
+              await(release);
+              return calls.incrementAndGet();
+            })), executor);
+    started.await();
+    CompletableFuture<Integer> follower = CompletableFuture.supplyAsync(() -> OpenstackContext.callWith(contextOf("p1", "reader", "member"),
+            () -> singleFlight.execute("nova.limits", "args", calls::incrementAndGet)), executor);
+    Thread.sleep(100);
+    release.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo(1);
+  }
+
+  private List<CompletableFuture<String>> startFollowers(Object key, int count, AtomicInteger calls) {
+    List<CompletableFuture<String>> followers = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      followers.add(CompletableFuture.supplyAsync(() -> singleFlight.execute(key, () -> {
+        calls.incrementAndGet();
+        return "own";
+      }), executor));
+    }
+    return followers;
+  }
+
+  /**
+   * 팔로워가 진행 중인 호출에 합류할 시간을 줍니다. 합류하지 못한 팔로워는 직접 호출하므로 호출 횟수 검증에서 드러납니다.
+   */
+  private static void awaitFollowersJoined(List<? extends CompletableFuture<?>> followers) throws InterruptedException {
+    Thread.sleep(100);
+    assertThat(followers).noneMatch(CompletableFuture::isDone);
+  }
+
+  private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5000;
+    while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    assertThat(condition.getAsBoolean()).isTrue();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("테스트 대기 시간 초과");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.security.entity.CloudSession;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openstack4j.core.transport.ObjectMapperSingleton;
+import org.openstack4j.model.common.Identifier;
+import org.openstack4j.model.identity.v3.Token;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneAuth;
+import org.openstack4j.openstack.identity.v3.domain.KeystoneToken;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CloudSessionSerializerTest {
+
+  private static final String ENDPOINT = "https://keystone.example.org:5000/v3";
+  private static final String PROJECT_ID = "pppppppppppppppppppppppppppppppp";
+
+  private CloudSessionSerializer serializer;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+    serializer = new CloudSessionSerializer(new ServiceCatalogStore(stringRedisTemplate, Duration.ofHours(1), 10));
+  }
+
+  @Test
+  void roundTripsProjectScopedSession() {
+    CloudSession session = sessionOf(projectScopedToken());
+
+    CloudSession restored = serializer.deserialize(serializer.serialize(session));
+
+    assertProjectScoped(restored.getToken());
+  }
+
+  @Test
+  void roundTripsUnscopedSession() {
+    CloudSession session = sessionOf(unscopedToken());
+
+    CloudSession restored = serializer.deserialize(serializer.serialize(session));
+
+    assertUnscoped(restored.getToken());
+  }
+
+  @Test
+  void readsLegacyJdkSerializedSession() {
+    byte[] legacy = new JdkSerializationRedisSerializer().serialize(sessionOf(projectScopedToken()));
+
+    CloudSession restored = serializer.deserialize(legacy);
+
+    assertProjectScoped(restored.getToken());
+    assertProjectScoped(serializer.deserialize(serializer.serialize(restored)).getToken());
+  }
+
+  @Test
+  void readsFormat1ProjectScopedSession() throws IOException {
+    CloudSession restored = serializer.deserialize(format1Of(projectScopedToken()));
+
+    assertProjectScoped(restored.getToken());
+    assertProjectScoped(serializer.deserialize(serializer.serialize(restored)).getToken());
+  }
+
+  @Test
+  void readsFormat1UnscopedSession() throws IOException {
+    CloudSession restored = serializer.deserialize(format1Of(unscopedToken()));
+
+    assertUnscoped(restored.getToken());
+    assertUnscoped(serializer.deserialize(serializer.serialize(restored)).getToken());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  void omitsCredentialsWhenExcluded() {
+    StringRedisTemplate stringRedisTemplate = mock(StringRedisTemplate.class);
+    when(stringRedisTemplate.opsForValue()).thenReturn(mock(ValueOperations.class));
+    CloudSessionSerializer withoutCredentials =
+            new CloudSessionSerializer(new ServiceCatalogStore(stringRedisTemplate, Duration.ofHours(1), 10), false);
+
+    byte[] bytes = withoutCredentials.serialize(sessionOf(projectScopedToken()));
+    Token restored = withoutCredentials.deserialize(bytes).getToken();
+
+    assertThat(new String(bytes, StandardCharsets.UTF_8)).doesNotContain("secret");
+    assertThat(restored.getCredentials()).isNull();
+    assertThat(restored.getId()).isEqualTo("gAAAAABtokenid");
+    assertThat(restored.getProject().getId()).isEqualTo(PROJECT_ID);
+  }
+
+  private static void assertProjectScoped(Token token) {
+    assertThat(token.getId()).isEqualTo("gAAAAABtokenid");
+    assertThat(token.getEndpoint()).isEqualTo(ENDPOINT);
+    assertThat(token.getProject().getId()).isEqualTo(PROJECT_ID);
+    assertThat(token.getCatalog()).hasSize(2);
+    assertThat(token.getCredentials().getUsername()).isEqualTo("alice");
+    assertThat(token.getCredentials().getPassword()).isEqualTo("secret");
+    assertThat(((KeystoneAuth) token.getCredentials()).getScope().getProject().getId()).isEqualTo(PROJECT_ID);
+  }
+
+  private static void assertUnscoped(Token token) {
+    assertThat(token.getId()).isEqualTo("gAAAAABtokenid");
+    assertThat(token.getEndpoint()).isEqualTo(ENDPOINT);
+    assertThat(token.getProject()).isNull();
+    assertThat(token.getCredentials().getUsername()).isEqualTo("alice");
+    assertThat(((KeystoneAuth) token.getCredentials()).getScope()).isNull();
+  }
+
+  private static CloudSession sessionOf(KeystoneToken token) {
+    return CloudSession.builder().token(token).build();
+  }
+
+  static KeystoneToken projectScopedToken() {
+    KeystoneToken token = readToken(false);
+    token.setId("gAAAAABtokenid");
+    token.applyContext(ENDPOINT, new KeystoneAuth("alice", "secret", Identifier.byName("default"),
+            KeystoneAuth.AuthScope.project(Identifier.byId(PROJECT_ID))));
+    return token;
+  }
+
+  private static KeystoneToken unscopedToken() {
+    KeystoneToken token = readToken(true);
+    token.setId("gAAAAABtokenid");
+    token.applyContext(ENDPOINT, new KeystoneAuth("alice", "secret", Identifier.byName("default"), null));
+    return token;
+  }
+
+  private static KeystoneToken readToken(boolean unscoped) {
+    try (InputStream in = CloudSessionSerializerTest.class.getResourceAsStream("/keystone/token.json")) {
+      ObjectNode root = (ObjectNode) new ObjectMapper().readTree(in);
+      if (unscoped) {
+        ((ObjectNode) root.get("token")).remove("project");
+      }
+      return ObjectMapperSingleton.getContext(KeystoneToken.class).treeToValue(root, KeystoneToken.class);
+    } catch (IOException ex) {
+      throw new IllegalStateException(ex);
+    }
+  }
+
+  /**
+   * 형식 1 세션을 만듭니다. 형식 1은 서비스 카탈로그와 로그인 자격 증명을 포함한 토큰 전체를 저장했습니다.
+   */
+  private static byte[] format1Of(KeystoneToken token) throws IOException {
+    ObjectMapper mapper = ObjectMapperSingleton.getContext(KeystoneToken.class).copy()
+            .disable(SerializationFeature.INDENT_OUTPUT)
+            .disable(SerializationFeature.WRAP_ROOT_VALUE)
+            .disable(DeserializationFeature.UNWRAP_ROOT_VALUE);
+    ObjectNode root = mapper.createObjectNode();
+    root.put("id", token.getId());
+    root.put("endpoint", token.getEndpoint());
+    root.put("username", token.getCredentials().getUsername());
+    root.put("password", token.getCredentials().getPassword());
+    root.put("domainName", "default");
+    root.set("token", mapper.valueToTree(token));
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    out.write(1);
+    out.write(mapper.writeValueAsBytes(root));
+    return out.toByteArray();
+  }
+}
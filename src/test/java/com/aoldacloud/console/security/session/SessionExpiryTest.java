@@ -0,0 +1,35 @@
+package com.aoldacloud.console.security.session;
+
+import org.junit.jupiter.api.Test;
+import org.openstack4j.model.identity.v3.Token;
+import org.springframework.http.ResponseCookie;
+
+import java.time.Duration;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class SessionExpiryTest {
+
+  private final SessionExpiry sessionExpiry = new SessionExpiry(mock(SessionStore.class),
+          Duration.ofHours(3), Duration.ofMinutes(5), Duration.ofMinutes(1));
+
+  @Test
+  void cookieExpiresWithSessionBeforeTokenExpiry() {
+    Token token = mock(Token.class);
+    when(token.getExpires()).thenReturn(new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis()));
+
+    Duration ttl = sessionExpiry.ttlOf(token);
+    ResponseCookie cookie = sessionExpiry.cookieOf("t", ttl);
+
+    assertThat(ttl).isLessThanOrEqualTo(Duration.ofMinutes(55));
+    assertThat(cookie.getMaxAge()).isEqualTo(ttl);
+  }
+
+  @Test
+  void cookieFallsBackToIdleTimeout() {
+    assertThat(sessionExpiry.cookieOf("t", null).getMaxAge()).isEqualTo(Duration.ofHours(3));
+  }
+}
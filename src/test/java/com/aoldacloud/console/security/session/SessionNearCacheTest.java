@@ -0,0 +1,83 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.global.cache.CacheInvalidationBus;
+import com.aoldacloud.console.security.entity.CloudSession;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis 없이 같은 인스턴스 안에서만 무효화 이벤트를 전달하는 SessionNearCache를 검증합니다.
+ */
+class SessionNearCacheTest {
+
+  private final ExecutorService executor = Executors.newCachedThreadPool();
+  private SessionNearCache nearCache;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    nearCache = new SessionNearCache(new CacheInvalidationBus(null, mock(ObjectProvider.class)), Duration.ofMinutes(1), 100);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void cachesLoadedSessionButNotMissingOne() {
+    AtomicInteger calls = new AtomicInteger();
+    CloudSession session = mock(CloudSession.class);
+
+    assertThat(nearCache.get("missing", token -> { calls.incrementAndGet(); return null; })).isNull();
+    assertThat(nearCache.get("missing", token -> { calls.incrementAndGet(); return null; })).isNull();
+    assertThat(nearCache.get("t", token -> session)).isSameAs(session);
+    assertThat(nearCache.get("t", token -> { calls.incrementAndGet(); return null; })).isSameAs(session);
+    assertThat(calls).hasValue(2);
+  }
+
+  @Test
+  void doesNotStoreLoadThatRacedInvalidation() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CloudSession deleted = mock(CloudSession.class);
+
+    CompletableFuture<CloudSession> stale = CompletableFuture.supplyAsync(() -> nearCache.get("t", token -> {
+      started.countDown();
+      await(release);
+      return deleted;
+    }), executor);
+    started.await();
+    CompletableFuture<Void> invalidation = CompletableFuture.runAsync(() -> nearCache.invalidate("t"), executor);
+    Thread.sleep(100);
+    release.countDown();
+
+    assertThat(stale.get(5, TimeUnit.SECONDS)).isSameAs(deleted);
+    invalidation.get(5, TimeUnit.SECONDS);
+    assertThat(nearCache.get("t", token -> null)).isNull();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      if (!latch.await(5, TimeUnit.SECONDS)) {
+        throw new IllegalStateException("테스트 대기 시간 초과");
+      }
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(ex);
+    }
+  }
+}
@@ -0,0 +1,193 @@
+package com.aoldacloud.console.security.session;
+
+import com.aoldacloud.console.global.cache.CacheInvalidationBus;
+import com.aoldacloud.console.security.entity.CloudSession;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatelessSessionStoreTest {
+
+  private static final String KEY = Base64.getEncoder().encodeToString(new byte[32]);
+
+  private static RedisServer redisServer;
+  private static LettuceConnectionFactory connectionFactory;
+  private static StringRedisTemplate stringRedisTemplate;
+
+  private StatelessSessionStore store;
+
+  @BeforeAll
+  static void startRedis() throws IOException {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    redisServer = new RedisServer(port);
+    redisServer.start();
+    connectionFactory = new LettuceConnectionFactory("localhost", port);
+    connectionFactory.afterPropertiesSet();
+    connectionFactory.start();
+    stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+    stringRedisTemplate.afterPropertiesSet();
+  }
+
+  @AfterAll
+  static void stopRedis() throws IOException {
+    connectionFactory.destroy();
+    redisServer.stop();
+  }
+
+  @BeforeEach
+  void setUp() {
+    stringRedisTemplate.delete("aoldacloud:session:revoked");
+    store = newStore(KEY);
+    store.reloadRevocations();
+  }
+
+  @Test
+  void opensIssuedToken() {
+    String authToken = store.save(null, session(), Duration.ofHours(1));
+
+    CloudSession restored = store.get(authToken);
+
+    assertThat(restored.getToken().getId()).isEqualTo("gAAAAABtokenid");
+    assertThat(restored.getToken().getCredentials()).isNull();
+  }
+
+  @Test
+  void rejectsTamperedToken() {
+    String authToken = store.save(null, session(), Duration.ofHours(1));
+    byte[] bytes = Base64.getUrlDecoder().decode(authToken);
+
+    for (int i : new int[]{0, 5, 20, bytes.length - 1}) {
+      byte[] tampered = bytes.clone();
+      tampered[i] ^= 1;
+      assertThat(store.get(Base64.getUrlEncoder().withoutPadding().encodeToString(tampered))).isNull();
+    }
+    assertThat(store.get("not-a-token")).isNull();
+    assertThat(store.get("!!!")).isNull();
+  }
+
+  @Test
+  void rejectsTokenSealedWithAnotherKey() {
+    StatelessSessionStore other = newStore(Base64.getEncoder().encodeToString(new byte[]{
+            1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32}));
+
+    assertThat(store.get(other.save(null, session(), Duration.ofHours(1)))).isNull();
+  }
+
+  @Test
+  void rejectsExpiredToken() throws InterruptedException {
+    String authToken = store.save(null, session(), Duration.ofMillis(50));
+    assertThat(store.get(authToken)).isNotNull();
+
+    Thread.sleep(100);
+
+    assertThat(store.get(authToken)).isNull();
+  }
+
+  @Test
+  void revokesDeletedTokenOnEveryInstance() {
+    StatelessSessionStore other = newStore(KEY);
+    other.reloadRevocations();
+    String authToken = store.save(null, session(), Duration.ofHours(1));
+    assertThat(other.get(authToken)).isNotNull();
+
+    store.delete(authToken);
+
+    assertThat(store.get(authToken)).isNull();
+    other.reloadRevocations();
+    assertThat(other.get(authToken)).isNull();
+  }
+
+  @Test
+  void revokesReplacedToken() {
+    String authToken = store.save(null, session(), Duration.ofHours(1));
+
+    String replaced = store.replace(authToken, session(), Duration.ofHours(1));
+
+    assertThat(store.get(authToken)).isNull();
+    assertThat(store.get(replaced)).isNotNull();
+    assertThat(store.replace(authToken, session(), Duration.ofHours(1))).isNull();
+  }
+
+  /**
+   * 작고 거의 가득 찬 필터(오탐률 약 25%)에서 50개 토큰 중 하나도 오탐되지 않을 확률은 무시할 수 있을 만큼 작으므로,
+   * 필터에 있을 수도 있다고 판단된 유효한 토큰도 Redis 확인 후 허용되는지 검증합니다.
+   */
+  @Test
+  void acceptsTokensThatCollideInRevocationFilter() {
+    StatelessSessionStore saturated = new StatelessSessionStore(catalogStore(), stringRedisTemplate, bus(), KEY, 1, 0.5);
+    for (int i = 0; i < 200; i++) {
+      saturated.delete(saturated.save(null, session(), Duration.ofHours(1)));
+    }
+    saturated.reloadRevocations();
+
+    for (int i = 0; i < 50; i++) {
+      assertThat(saturated.get(saturated.save(null, session(), Duration.ofHours(1)))).isNotNull();
+    }
+  }
+
+  @Test
+  void revocationFilterStaysNearConfiguredFalsePositiveRate() {
+    StatelessSessionStore.BloomFilter filter = new StatelessSessionStore.BloomFilter(10_000, 0.01);
+    for (int i = 0; i < 10_000; i++) {
+      filter.put(UUID.randomUUID().toString());
+    }
+
+    int falsePositives = 0;
+    int probes = 100_000;
+    for (int i = 0; i < probes; i++) {
+      if (filter.mightContain(UUID.randomUUID().toString())) {
+        falsePositives++;
+      }
+    }
+
+    assertThat((double) falsePositives / probes).isLessThan(0.02);
+  }
+
+  @Test
+  void revocationFilterHasNoFalseNegatives() {
+    StatelessSessionStore.BloomFilter filter = new StatelessSessionStore.BloomFilter(1_000, 0.001);
+    String[] ids = new String[1_000];
+    for (int i = 0; i < ids.length; i++) {
+      ids[i] = UUID.randomUUID().toString();
+      filter.put(ids[i]);
+    }
+
+    for (String id : ids) {
+      assertThat(filter.mightContain(id)).isTrue();
+    }
+  }
+
+  private static StatelessSessionStore newStore(String key) {
+    return new StatelessSessionStore(catalogStore(), stringRedisTemplate, bus(), key, 1000, 0.001);
+  }
+
+  private static ServiceCatalogStore catalogStore() {
+    return new ServiceCatalogStore(stringRedisTemplate, Duration.ofHours(1), 10);
+  }
+
+  private static CacheInvalidationBus bus() {
+    return new CacheInvalidationBus(stringRedisTemplate,
+            new StaticListableBeanFactory().getBeanProvider(RedisMessageListenerContainer.class));
+  }
+
+  private static CloudSession session() {
+    return CloudSession.builder().token(CloudSessionSerializerTest.projectScopedToken()).build();
+  }
+}